@@ -0,0 +1,118 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler-like load: every thread offers the random element and polls the head. The throughput of the strict skip
+ * list and the relaxed MultiQueue is compared with {@link PriorityQueue} behind the single lock as the thread count
+ * grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentPriorityQueueBenchmark {
+    @Param({"locked", "strict", "relaxed"})
+    String mode;
+
+    private Queue<Integer> q;
+
+    @Setup
+    public void setup() {
+        switch (mode) {
+            case "locked":
+                q = new Locked(new PriorityQueue<>());
+                break;
+            case "strict":
+                q = ConcurrentPriorityQueue.strict();
+                break;
+            default:
+                q = ConcurrentPriorityQueue.relaxed(Comparator.naturalOrder());
+        }
+
+        var random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10_000; i++) {
+            q.offer(random.nextInt());
+        }
+    }
+
+    private Integer offerPoll() {
+        q.offer(ThreadLocalRandom.current().nextInt());
+        return q.poll();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer threads1() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer threads4() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer threads16() {
+        return offerPoll();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public Integer threads32() {
+        return offerPoll();
+    }
+
+    private static final class Locked extends java.util.AbstractQueue<Integer> {
+        private final PriorityQueue<Integer> pq;
+
+        Locked(PriorityQueue<Integer> pq) {
+            this.pq = pq;
+        }
+
+        @Override
+        public synchronized boolean offer(Integer e) {
+            return pq.offer(e);
+        }
+
+        @Override
+        public synchronized Integer poll() {
+            return pq.poll();
+        }
+
+        @Override
+        public synchronized Integer peek() {
+            return pq.peek();
+        }
+
+        @Override
+        public synchronized int size() {
+            return pq.size();
+        }
+
+        @Override
+        public java.util.Iterator<Integer> iterator() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
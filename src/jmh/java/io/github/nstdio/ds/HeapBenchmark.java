@@ -0,0 +1,86 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Heap} implementations under two workloads: the monotone one of Dijkstra, where the polled key plus the
+ * random edge weight is offered back, and the melding of {@code parts} partition heaps into one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapBenchmark {
+    private static final int PARTS = 16;
+
+    @Param({"dary", "pairing", "radix"})
+    String heap;
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Heap<Long> h;
+    private long[] weights;
+    private int cursor;
+
+    private static Heap<Long> create(String heap) {
+        switch (heap) {
+            case "dary":
+                return new PriorityQueue<>(Comparator.reverseOrder());
+            case "pairing":
+                return new PairingHeap<>(Comparator.reverseOrder());
+            default:
+                return new RadixHeap<>(Long::longValue);
+        }
+    }
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        weights = new long[1024];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = random.nextInt(10_000);
+        }
+
+        h = create(heap);
+        for (int i = 0; i < size; i++) {
+            h.offer(weights[i & 1023]);
+        }
+    }
+
+    @Benchmark
+    public Long monotone() {
+        Long min = h.poll();
+        h.offer(min + weights[cursor++ & 1023]);
+        return min;
+    }
+
+    @Benchmark
+    public Heap<Long> meld() {
+        var result = create(heap);
+        for (int p = 0; p < PARTS; p++) {
+            var part = create(heap);
+            for (int i = p; i < size; i += PARTS) {
+                part.offer(weights[i & 1023]);
+            }
+            result.meld(part);
+        }
+        return result;
+    }
+}
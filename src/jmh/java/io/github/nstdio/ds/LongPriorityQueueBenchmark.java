@@ -0,0 +1,88 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline scheduling: the primitive {@link LongPriorityQueue} against {@link PriorityQueue} of the
+ * {@code Comparable} wrappers, one poll and one offer of the later deadline per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongPriorityQueueBenchmark {
+    @Param({"1000", "1000000"})
+    int size;
+
+    private LongPriorityQueue<Object> primitive;
+    private PriorityQueue<Deadline> boxed;
+    private long[] delays;
+    private int cursor;
+    private long now;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        primitive = new LongPriorityQueue<>();
+        boxed = new PriorityQueue<>();
+        var payload = new Object();
+        for (int i = 0; i < size; i++) {
+            long deadline = random.nextInt(size);
+            primitive.offer(deadline, payload);
+            boxed.offer(new Deadline(deadline, payload));
+        }
+
+        delays = new long[1024];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Object primitive() {
+        long deadline = primitive.peekPriority();
+        var payload = primitive.poll();
+        primitive.offer(deadline + delays[cursor++ & 1023], payload);
+        return payload;
+    }
+
+    @Benchmark
+    public Object boxed() {
+        var d = boxed.poll();
+        boxed.offer(new Deadline(d.deadline + delays[cursor++ & 1023], d.payload));
+        return d.payload;
+    }
+
+    static final class Deadline implements Comparable<Deadline> {
+        final long deadline;
+        final Object payload;
+
+        Deadline(long deadline, Object payload) {
+            this.deadline = deadline;
+            this.payload = payload;
+        }
+
+        /**
+         * Reversed, since {@link PriorityQueue} polls the greatest element.
+         */
+        @Override
+        public int compareTo(Deadline o) {
+            return Long.compare(o.deadline, deadline);
+        }
+    }
+}
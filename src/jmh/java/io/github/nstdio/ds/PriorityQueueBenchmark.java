@@ -0,0 +1,81 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scheduler-like steady state: the queue of {@code size} elements where every poll is followed by the offer of the
+ * random element, so both sift directions are measured at constant heap depth. Reading the 10 greatest elements
+ * without modifying the queue is measured with {@link PriorityQueue#sortedIterator()} against polling the copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriorityQueueBenchmark {
+    @Param({"1000", "1000000"})
+    int size;
+
+    @Param({"2", "4", "8"})
+    int arity;
+
+    private PriorityQueue<Integer> pq;
+    private Integer[] values;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        pq = new PriorityQueue<>(arity);
+        for (int i = 0; i < size; i++) {
+            pq.offer(random.nextInt());
+        }
+
+        values = new Integer[1024];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+    }
+
+    @Benchmark
+    public Integer pollOffer() {
+        var e = pq.poll();
+        pq.offer(values[cursor++ & 1023]);
+        return e;
+    }
+
+    @Benchmark
+    public int sortedIteratorTop10() {
+        var it = pq.sortedIterator();
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += it.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int copyAndPollTop10() {
+        var copy = new PriorityQueue<Integer>(Comparator.naturalOrder(), arity, pq);
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += copy.poll();
+        }
+        return sum;
+    }
+}
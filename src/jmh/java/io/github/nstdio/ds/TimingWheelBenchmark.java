@@ -0,0 +1,77 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection timeouts: with {@code size} timeouts pending, every operation schedules the new timeout and cancels the
+ * oldest one, as most timeouts never fire. {@link TimingWheel} against {@link IndexedPriorityQueue}, the heap with
+ * O(log n) removal by handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimingWheelBenchmark {
+    @Param({"1000", "1000000"})
+    int size;
+
+    private final Object payload = new Object();
+    private TimingWheel<Object> wheel;
+    private TimingWheel.Timeout<Object>[] timeouts;
+    private IndexedPriorityQueue<Long> heap;
+    private IndexedPriorityQueue.Handle<Long>[] handles;
+    private long[] delays;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        var random = new Random(42);
+        delays = new long[1024];
+        for (int i = 0; i < delays.length; i++) {
+            delays[i] = 1 + random.nextInt(30_000);
+        }
+
+        wheel = new TimingWheel<>(1, 0);
+        heap = new IndexedPriorityQueue<>(Comparator.reverseOrder());
+        timeouts = new TimingWheel.Timeout[size];
+        handles = new IndexedPriorityQueue.Handle[size];
+        for (int i = 0; i < size; i++) {
+            long deadline = delays[i & 1023];
+            timeouts[i] = wheel.schedule(deadline, payload);
+            handles[i] = heap.insert(deadline);
+        }
+    }
+
+    @Benchmark
+    public boolean wheel() {
+        int i = cursor++ % size;
+        boolean cancelled = timeouts[i].cancel();
+        timeouts[i] = wheel.schedule(delays[i & 1023], payload);
+        return cancelled;
+    }
+
+    @Benchmark
+    public boolean heap() {
+        int i = cursor++ % size;
+        boolean removed = heap.remove(handles[i]);
+        handles[i] = heap.insert(delays[i & 1023]);
+        return removed;
+    }
+}
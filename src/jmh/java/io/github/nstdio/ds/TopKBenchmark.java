@@ -0,0 +1,65 @@
+package io.github.nstdio.ds;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top {@code k} of one million random candidates: {@link TopKQueue} against the {@link PriorityQueue} trimmed back to
+ * {@code k} after every offer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TopKBenchmark {
+    @Param({"10", "100", "1000"})
+    int k;
+
+    private List<Integer> candidates;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        var a = new Integer[1_000_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+        }
+        candidates = Arrays.asList(a);
+    }
+
+    @Benchmark
+    public List<Integer> topK() {
+        var top = TopKQueue.<Integer>naturalOrder(k);
+        top.offerAll(candidates);
+        return top.toSortedList();
+    }
+
+    @Benchmark
+    public PriorityQueue<Integer> priorityQueue() {
+        var pq = new PriorityQueue<Integer>(Comparator.reverseOrder());
+        for (Integer c : candidates) {
+            pq.offer(c);
+            if (pq.size() > k) {
+                pq.poll();
+            }
+        }
+        return pq;
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.nstdio.ds.list;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the node-per-element {@link SinglyLinkedList} with {@link UnrolledLinkedList} on positional access, middle
+ * insertion and full traversal.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkedListBenchmark {
+    @Param({"1000", "100000"})
+    int size;
+
+    @Param({"singly", "unrolled"})
+    String impl;
+
+    private List<Integer> list;
+    private int[] indexes;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        list = "singly".equals(impl) ? new SinglyLinkedList<>() : new UnrolledLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        indexes = new Random(42).ints(1024, 0, size).toArray();
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(indexes[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public Integer insertAndRemove() {
+        int i = indexes[cursor++ & 1023];
+        list.add(i, i);
+        return list.remove(i);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer e : list) {
+            bh.consume(e);
+        }
+    }
+}
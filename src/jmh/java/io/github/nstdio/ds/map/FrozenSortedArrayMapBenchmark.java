@@ -0,0 +1,66 @@
+package io.github.nstdio.ds.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrozenSortedArrayMapBenchmark {
+    @Param({"1048576", "8388608"})
+    int size;
+
+    private SortedArrayMap<Long, Long> sorted;
+    private FrozenSortedArrayMap<Long, Long> frozen;
+    private Long[] lookups;
+    private int next;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        sorted = new SortedArrayMap<>();
+
+        var keys = new long[size];
+        long key = 0;
+        for (int i = 0; i < size; i++) {
+            key += 1 + random.nextInt(64);
+            keys[i] = key;
+            sorted.put(key, key);
+        }
+        frozen = FrozenSortedArrayMap.copyOf(sorted);
+
+        lookups = new Long[4096];
+        for (int i = 0; i < lookups.length; i++) {
+            lookups[i] = keys[random.nextInt(size)];
+        }
+    }
+
+    @Benchmark
+    public Long binarySearch() {
+        return sorted.get(nextKey());
+    }
+
+    @Benchmark
+    public Long learnedIndex() {
+        return frozen.get(nextKey());
+    }
+
+    private Long nextKey() {
+        return lookups[next++ & (lookups.length - 1)];
+    }
+}
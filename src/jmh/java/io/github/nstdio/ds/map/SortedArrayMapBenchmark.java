@@ -0,0 +1,77 @@
+package io.github.nstdio.ds.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedArrayMapBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    /**
+     * {@code uniform} keys are evenly spread, {@code skewed} keys grow as the cube of their position.
+     */
+    @Param({"uniform", "skewed"})
+    String distribution;
+
+    private SortedArrayMap<Long, Long> binary;
+    private SortedArrayMap<Long, Long> interpolation;
+    private Long[] lookups;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        binary = new SortedArrayMap<>();
+        interpolation = SortedArrayMap.forNumericKeys();
+
+        var keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            long key = "uniform".equals(distribution) ? i * 16L + random.nextInt(16) : (long) i * i * i;
+            keys[i] = key;
+            binary.put(key, key);
+            interpolation.put(key, key);
+        }
+
+        lookups = new Long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups[i] = keys[random.nextInt(size)];
+        }
+    }
+
+    @Benchmark
+    public long binarySearch() {
+        return lookup(binary);
+    }
+
+    @Benchmark
+    public long interpolationSearch() {
+        return lookup(interpolation);
+    }
+
+    private long lookup(SortedArrayMap<Long, Long> map) {
+        long sum = 0;
+        for (Long key : lookups) {
+            sum += map.get(key);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,254 @@
+package io.github.nstdio.ds;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The unbounded non-blocking multi-producer multi-consumer queue. This is the Michael-Scott queue: a singly linked list
+ * with a dummy head node, where {@link #offer(Object)} links the new node after the last one with CAS and then swings
+ * the {@code tail}, while {@link #poll()} swings the {@code head}. A thread that finds {@code tail} lagging behind
+ * helps to advance it, so no thread ever waits for another.
+ * <p>
+ * The {@code null} elements are not permitted. {@link #size()} traverses the queue and is not an O(1) operation. The
+ * iterator is weakly consistent. {@link #remove(Object)} and the iterator's {@code remove} clear the item of the node
+ * with CAS, {@link #poll()} claims the item the same way, so the element is either polled or removed, never both.
+ */
+public final class ConcurrentLinkedQueue<E> extends AbstractQueue<E> {
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+    private static final VarHandle ITEM;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(ConcurrentLinkedQueue.class, "head", Node.class);
+            TAIL = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tail", Node.class);
+            ITEM = lookup.findVarHandle(Node.class, "item", Object.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private volatile Node<E> head;
+    private volatile Node<E> tail;
+
+    public ConcurrentLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        var n = new Node<>(Objects.requireNonNull(e));
+
+        for (;;) {
+            var t = tail;
+            var next = t.next;
+            if (t != tail) {
+                continue;
+            }
+
+            if (next == null) {
+                if (NEXT.compareAndSet(t, null, n)) {
+                    TAIL.compareAndSet(this, t, n);
+                    return true;
+                }
+            } else {
+                TAIL.compareAndSet(this, t, next);
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        for (;;) {
+            var h = head;
+            var t = tail;
+            var first = h.next;
+            if (h != head) {
+                continue;
+            }
+
+            if (first == null) {
+                return null;
+            }
+            if (h == t) {
+                TAIL.compareAndSet(this, t, first);
+                continue;
+            }
+
+            // claim the item first, so it is never handed out twice when racing with remove(Object)
+            E item = first.item;
+            if (item != null && !ITEM.compareAndSet(first, item, null)) {
+                continue;
+            }
+            // first is the new dummy: self-link the old head so it does not retain the chain
+            if (HEAD.compareAndSet(this, h, first)) {
+                NEXT.setRelease(h, h);
+            }
+            if (item != null) {
+                return item;
+            }
+        }
+    }
+
+    @Override
+    public E peek() {
+        for (;;) {
+            var h = head;
+            var t = tail;
+            var first = h.next;
+            if (first == null) {
+                return null;
+            }
+
+            E item = first.item;
+            if (h != head) {
+                continue;
+            }
+            if (item != null) {
+                return item;
+            }
+
+            // the first node is removed, help to unlink it
+            if (h == t) {
+                TAIL.compareAndSet(this, t, first);
+            } else if (HEAD.compareAndSet(this, h, first)) {
+                NEXT.setRelease(h, h);
+            }
+        }
+    }
+
+    /**
+     * Removes the first occurrence of {@code o}. The node is deleted logically by clearing its item with CAS, so it
+     * can't be polled anymore. The node is unlinked right away when it has a successor, otherwise it stays in the
+     * list as the empty one until {@link #poll()} or {@link #peek()} pass it.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        Node<E> pred = null;
+        for (var p = first(); p != null; pred = p, p = succ(p)) {
+            E item = p.item;
+            if (item != null && o.equals(item) && ITEM.compareAndSet(p, item, null)) {
+                unlink(pred, p);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Unlinks removed {@code p} from {@code pred} unless {@code p} is the last node, which {@code tail} might point at.
+     */
+    private void unlink(Node<E> pred, Node<E> p) {
+        var next = p.next;
+        if (pred != null && next != null && next != p) {
+            NEXT.compareAndSet(pred, p, next);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return peek() == null;
+    }
+
+    @Override
+    public int size() {
+        int count = 0;
+        for (var p = first(); p != null; p = succ(p)) {
+            if (p.item != null && ++count == Integer.MAX_VALUE) {
+                break;
+            }
+        }
+
+        return count;
+    }
+
+    private Node<E> first() {
+        return head.next;
+    }
+
+    /**
+     * The successor of {@code p}, or the first node when {@code p} is already unlinked.
+     */
+    private Node<E> succ(Node<E> p) {
+        var next = p.next;
+        return next == p ? first() : next;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new It();
+    }
+
+    private static final class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            ITEM.set(this, item);
+        }
+    }
+
+    private class It implements Iterator<E> {
+        private Node<E> nextNode;
+        private E nextItem;
+        private Node<E> lastNode;
+        private E lastItem;
+
+        It() {
+            advance(first());
+        }
+
+        private void advance(Node<E> p) {
+            for (; p != null; p = succ(p)) {
+                E item = p.item;
+                if (item != null) {
+                    nextNode = p;
+                    nextItem = item;
+                    return;
+                }
+            }
+
+            nextNode = null;
+            nextItem = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextNode != null;
+        }
+
+        @Override
+        public E next() {
+            if (nextNode == null)
+                throw new NoSuchElementException();
+
+            lastNode = nextNode;
+            lastItem = nextItem;
+            advance(succ(nextNode));
+            return lastItem;
+        }
+
+        @Override
+        public void remove() {
+            if (lastNode == null)
+                throw new IllegalStateException();
+
+            // the item is already gone when it was polled or removed concurrently
+            ITEM.compareAndSet(lastNode, lastItem, null);
+            lastNode = null;
+            lastItem = null;
+        }
+    }
+}
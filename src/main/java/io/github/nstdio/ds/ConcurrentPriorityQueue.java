@@ -0,0 +1,411 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * The thread-safe priority queue polling the greatest element according to the comparator, like
+ * {@link PriorityQueue}. Two implementations are available:
+ * <ul>
+ *     <li>{@link #strict(Comparator)}: the lock-free skip list, every poll returns the greatest element present at
+ *     some point during the call. Threads still contend on the head of the list, so it suits the moderate number of
+ *     consumers.</li>
+ *     <li>{@link #relaxed(Comparator, int)}: the MultiQueue, the number of sequential heaps each guarded by its own
+ *     lock. The offer goes to the random heap, the poll takes the better head of two random heaps. Contention is spread
+ *     over all heaps, so it scales with the number of threads, but the poll might return the element which is not the
+ *     greatest one, with the expected rank of the returned element being O(number of heaps).</li>
+ * </ul>
+ * Neither implementation permits {@code null} elements. The iterators are weakly consistent, {@link #size()} is exact
+ * only in the absence of concurrent updates.
+ */
+public abstract class ConcurrentPriorityQueue<E> extends AbstractQueue<E> {
+    ConcurrentPriorityQueue() {
+    }
+
+    public static <E extends Comparable<? super E>> ConcurrentPriorityQueue<E> strict() {
+        return strict(Comparator.naturalOrder());
+    }
+
+    public static <E> ConcurrentPriorityQueue<E> strict(Comparator<? super E> comparator) {
+        return new SkipList<>(comparator);
+    }
+
+    /**
+     * The MultiQueue of naturally ordered elements with two heaps per available processor.
+     */
+    public static <E extends Comparable<? super E>> ConcurrentPriorityQueue<E> relaxed() {
+        return relaxed(Comparator.naturalOrder());
+    }
+
+    /**
+     * The MultiQueue with two heaps per available processor.
+     */
+    public static <E> ConcurrentPriorityQueue<E> relaxed(Comparator<? super E> comparator) {
+        return relaxed(comparator, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param queues The number of heaps, at least 2. More heaps mean less contention and weaker ordering.
+     */
+    public static <E> ConcurrentPriorityQueue<E> relaxed(Comparator<? super E> comparator, int queues) {
+        return new MultiQueue<>(comparator, queues);
+    }
+
+    /**
+     * The skip list ordered by the comparator reversed, ties are broken by the insertion sequence number so equal
+     * elements are kept as distinct entries and polled in FIFO order.
+     */
+    static final class SkipList<E> extends ConcurrentPriorityQueue<E> {
+        private final ConcurrentSkipListSet<Entry<E>> set;
+        private final AtomicLong sequence = new AtomicLong();
+
+        SkipList(Comparator<? super E> comparator) {
+            Objects.requireNonNull(comparator);
+            Comparator<Entry<E>> byElement = (a, b) -> comparator.compare(b.e, a.e);
+            set = new ConcurrentSkipListSet<>(byElement.thenComparingLong(entry -> entry.seq));
+        }
+
+        @Override
+        public boolean offer(E e) {
+            Objects.requireNonNull(e);
+            return set.add(new Entry<>(e, sequence.getAndIncrement()));
+        }
+
+        @Override
+        public E poll() {
+            var entry = set.pollFirst();
+            return entry == null ? null : entry.e;
+        }
+
+        @Override
+        public E peek() {
+            for (;;) {
+                if (set.isEmpty()) {
+                    return null;
+                }
+                try {
+                    return set.first().e;
+                } catch (NoSuchElementException ignored) {
+                    // emptied concurrently, check again
+                }
+            }
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return set.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            return set.size();
+        }
+
+        @Override
+        public void clear() {
+            set.clear();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            var it = set.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    return it.next().e;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        private static final class Entry<E> {
+            final E e;
+            final long seq;
+
+            Entry(E e, long seq) {
+                this.e = e;
+                this.seq = seq;
+            }
+        }
+    }
+
+    /**
+     * The array of heaps guarded by their own locks. Threads never wait for the lock: a busy heap is skipped in favor
+     * of another random one. The head of every heap is published in the volatile field, so the choice between two
+     * heaps is made without locking either of them.
+     */
+    static final class MultiQueue<E> extends ConcurrentPriorityQueue<E> {
+        private final Comparator<? super E> comparator;
+        private final Sub<E>[] queues;
+        private final LongAdder size = new LongAdder();
+
+        @SuppressWarnings("unchecked")
+        MultiQueue(Comparator<? super E> comparator, int queues) {
+            if (queues < 2) {
+                throw new IllegalArgumentException("queues should be at least 2: " + queues);
+            }
+
+            this.comparator = Objects.requireNonNull(comparator);
+            this.queues = (Sub<E>[]) new Sub<?>[queues];
+            for (int i = 0; i < queues; i++) {
+                this.queues[i] = new Sub<>(comparator);
+            }
+        }
+
+        int queues() {
+            return queues.length;
+        }
+
+        @Override
+        public boolean offer(E e) {
+            Objects.requireNonNull(e);
+            var queues = this.queues;
+            var random = ThreadLocalRandom.current();
+            for (;;) {
+                var q = queues[random.nextInt(queues.length)];
+                if (q.lock.tryLock()) {
+                    try {
+                        q.heap.offer(e);
+                        q.publishHead();
+                    } finally {
+                        q.lock.unlock();
+                    }
+                    size.increment();
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public E poll() {
+            var queues = this.queues;
+            var random = ThreadLocalRandom.current();
+            for (int attempt = 0; attempt < queues.length; attempt++) {
+                var a = queues[random.nextInt(queues.length)];
+                var b = queues[random.nextInt(queues.length)];
+                var q = better(a, b);
+                if (q == null) {
+                    break;
+                }
+
+                E e = q.tryPoll();
+                if (e != null) {
+                    size.decrement();
+                    return e;
+                }
+            }
+
+            return pollScan();
+        }
+
+        /**
+         * Visits every heap starting from the random one, used when the random choice keeps hitting empty or busy
+         * heaps. Returns {@code null} only if every heap was seen empty.
+         */
+        private E pollScan() {
+            var queues = this.queues;
+            int start = ThreadLocalRandom.current().nextInt(queues.length);
+            for (;;) {
+                boolean seenNonEmpty = false;
+                for (int i = 0; i < queues.length; i++) {
+                    var q = queues[(start + i) % queues.length];
+                    if (q.head == null) {
+                        continue;
+                    }
+                    seenNonEmpty = true;
+                    E e = q.tryPoll();
+                    if (e != null) {
+                        size.decrement();
+                        return e;
+                    }
+                }
+                if (!seenNonEmpty) {
+                    return null;
+                }
+                Thread.onSpinWait();
+            }
+        }
+
+        private Sub<E> better(Sub<E> a, Sub<E> b) {
+            E ha = a.head;
+            E hb = b.head;
+            if (ha == null) {
+                return hb == null ? null : b;
+            }
+            if (hb == null) {
+                return a;
+            }
+            return comparator.compare(ha, hb) >= 0 ? a : b;
+        }
+
+        /**
+         * The greatest of the heap heads, which is the head of the queue in the absence of concurrent updates.
+         */
+        @Override
+        public E peek() {
+            E best = null;
+            for (var q : queues) {
+                E h = q.head;
+                if (h != null && (best == null || comparator.compare(h, best) > 0)) {
+                    best = h;
+                }
+            }
+            return best;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            for (var q : queues) {
+                if (q.head != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.max(0, size.sum());
+        }
+
+        @Override
+        public void clear() {
+            for (var q : queues) {
+                q.lock.lock();
+                try {
+                    int n = q.heap.size();
+                    q.heap.clear();
+                    q.publishHead();
+                    size.add(-n);
+                } finally {
+                    q.lock.unlock();
+                }
+            }
+        }
+
+        /**
+         * Removes the single instance of {@code o} from the first heap containing it, heaps are locked one by one.
+         */
+        @Override
+        public boolean remove(Object o) {
+            if (o == null) {
+                return false;
+            }
+
+            for (var q : queues) {
+                q.lock.lock();
+                try {
+                    if (q.heap.remove(o)) {
+                        q.publishHead();
+                        size.decrement();
+                        return true;
+                    }
+                } finally {
+                    q.lock.unlock();
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            Objects.requireNonNull(filter);
+            boolean removed = false;
+            for (var q : queues) {
+                q.lock.lock();
+                try {
+                    int n = q.heap.size();
+                    if (q.heap.removeIf(filter)) {
+                        q.publishHead();
+                        size.add(q.heap.size() - n);
+                        removed = true;
+                    }
+                } finally {
+                    q.lock.unlock();
+                }
+            }
+            return removed;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIf(c::contains);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIf(e -> !c.contains(e));
+        }
+
+        /**
+         * The iterator over the snapshot of every heap taken one by one, it does not support removal, use
+         * {@link #remove(Object)} or {@link #removeIf(Predicate)} instead.
+         */
+        @Override
+        public Iterator<E> iterator() {
+            var snapshot = new ArrayList<E>();
+            for (var q : queues) {
+                q.lock.lock();
+                try {
+                    snapshot.addAll(q.heap);
+                } finally {
+                    q.lock.unlock();
+                }
+            }
+            return Collections.unmodifiableList(snapshot).iterator();
+        }
+
+        private static final class Sub<E> {
+            final ReentrantLock lock = new ReentrantLock();
+            final java.util.PriorityQueue<E> heap;
+            /**
+             * The head of the {@link #heap} written under the lock and read without it.
+             */
+            volatile E head;
+
+            Sub(Comparator<? super E> comparator) {
+                heap = new java.util.PriorityQueue<>(comparator.reversed());
+            }
+
+            void publishHead() {
+                head = heap.peek();
+            }
+
+            E tryPoll() {
+                if (!lock.tryLock()) {
+                    return null;
+                }
+                try {
+                    E e = heap.poll();
+                    publishHead();
+                    return e;
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
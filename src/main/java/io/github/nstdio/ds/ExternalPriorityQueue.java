@@ -0,0 +1,502 @@
+package io.github.nstdio.ds;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The priority queue keeping at most {@code maxInMemory} elements on the heap. When the in-memory heap is full, its
+ * elements are written in the poll order as the sorted run to the temporary file. {@link #poll()} merges the runs
+ * lazily: it compares the head of the in-memory heap with the current element of every run and takes the greatest,
+ * reading the next element of that run through the buffered channel. When the number of runs exceeds
+ * {@value #MAX_RUNS}, the runs of similar size are merged into a single one, so the memory taken by the read buffers
+ * stays bounded too. Elements are written and read by the {@link Serializer}.
+ * <p>
+ * Like {@link PriorityQueue}, {@link #poll()} returns the greatest element according to the comparator. The iteration
+ * and the operations based on it, like {@link #contains(Object)} and {@link #remove(Object)}, are not supported, as
+ * most of the elements might be on disk. The temporary files are deleted when they are fully consumed, on
+ * {@link #clear()} and on {@link #close()}. This class is not thread-safe.
+ */
+public final class ExternalPriorityQueue<E> extends AbstractQueue<E> implements Heap<E>, Closeable {
+    static final int MAX_RUNS = 64;
+    private static final int BUFFER_SIZE = 1 << 16;
+    /**
+     * The runs of the same tier differ in size less than {@code 2^TIER_BITS} times.
+     */
+    private static final int TIER_BITS = 3;
+
+    private final Comparator<? super E> comparator;
+    private final Serializer<E> serializer;
+    private final int maxInMemory;
+    private final Path directory;
+    private final PairingHeap<E> memory;
+    private final PairingHeap<Run<E>> runs;
+    private int size;
+    private boolean closed;
+    /**
+     * The failure to read the next element of the run after its head was polled, thrown by the next {@link #poll()}.
+     */
+    private UncheckedIOException pendingFailure;
+
+    /**
+     * Creates the queue spilling to the default temporary directory.
+     */
+    public ExternalPriorityQueue(Comparator<? super E> comparator, Serializer<E> serializer, int maxInMemory) {
+        this(comparator, serializer, maxInMemory, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param maxInMemory The maximum number of elements kept on the heap.
+     * @param directory   The directory for the temporary files.
+     */
+    public ExternalPriorityQueue(Comparator<? super E> comparator, Serializer<E> serializer, int maxInMemory,
+                                 Path directory) {
+        if (maxInMemory < 1) {
+            throw new IllegalArgumentException("maxInMemory should be positive: " + maxInMemory);
+        }
+
+        this.comparator = Objects.requireNonNull(comparator);
+        this.serializer = Objects.requireNonNull(serializer);
+        this.maxInMemory = maxInMemory;
+        this.directory = Objects.requireNonNull(directory);
+        this.memory = new PairingHeap<>(comparator);
+        this.runs = newRunHeap();
+    }
+
+    private PairingHeap<Run<E>> newRunHeap() {
+        return new PairingHeap<>((a, b) -> comparator.compare(a.head, b.head));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The number of runs on disk, used by tests.
+     */
+    int runs() {
+        return runs.size();
+    }
+
+    /**
+     * @throws UncheckedIOException when the spill fails.
+     */
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        ensureOpen();
+        if (memory.size() == maxInMemory) {
+            spill();
+        }
+
+        memory.offer(e);
+        size++;
+        return true;
+    }
+
+    @Override
+    public E peek() {
+        ensureOpen();
+        var m = memory.peek();
+        var r = runs.peek();
+        if (r == null || (m != null && comparator.compare(m, r.head) >= 0)) {
+            return m;
+        }
+        return r.head;
+    }
+
+    /**
+     * When reading the next element of the run fails, the polled element is still returned, the broken run is deleted
+     * and the failure is thrown by the next call.
+     *
+     * @throws UncheckedIOException when reading the run failed during the previous call.
+     */
+    @Override
+    public E poll() {
+        ensureOpen();
+        if (pendingFailure != null) {
+            var ex = pendingFailure;
+            pendingFailure = null;
+            throw ex;
+        }
+
+        var m = memory.peek();
+        var r = runs.peek();
+        if (r == null || (m != null && comparator.compare(m, r.head) >= 0)) {
+            if (m != null) {
+                size--;
+            }
+            return memory.poll();
+        }
+
+        runs.poll();
+        E e = r.head;
+        size--;
+        advance(r);
+        return e;
+    }
+
+    /**
+     * Deletes all runs and clears the in-memory heap.
+     */
+    @Override
+    public void clear() {
+        memory.clear();
+        Run<E> r;
+        while ((r = runs.poll()) != null) {
+            r.close();
+        }
+        size = 0;
+        pendingFailure = null;
+    }
+
+    /**
+     * Clears the queue, it can't be used afterwards.
+     */
+    @Override
+    public void close() {
+        clear();
+        closed = true;
+    }
+
+    /**
+     * Iteration is not supported.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        throw new UnsupportedOperationException("Iteration over external queue is not supported");
+    }
+
+    /**
+     * The size and the number of runs, the elements are not listed since most of them might be on disk.
+     */
+    @Override
+    public String toString() {
+        return "ExternalPriorityQueue[size=" + size + ", runs=" + runs.size() + "]";
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Queue is closed");
+        }
+    }
+
+    /**
+     * Writes the in-memory heap as the new run, merging the runs if there are too many of them. The run is written from
+     * the sorted copy of the heap, which is cleared only once the run is complete, so the failed spill loses nothing.
+     */
+    private void spill() {
+        try {
+            @SuppressWarnings("unchecked")
+            var sorted = (E[]) memory.toArray();
+            Arrays.sort(sorted, comparator.reversed());
+
+            var w = new RunWriter<E>(directory, serializer);
+            Run<E> r;
+            try {
+                for (E e : sorted) {
+                    w.write(e);
+                }
+                r = w.finish();
+                r.advance();
+            } catch (IOException | RuntimeException ex) {
+                w.abort();
+                throw ex;
+            }
+            memory.clear();
+            runs.offer(r);
+
+            if (runs.size() > MAX_RUNS) {
+                compact();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Merges the runs of the lowest tier holding more than one run, where the tier is the logarithm of the run size
+     * base {@code 2^TIER_BITS}. The merged run lands in a higher tier, so every element is rewritten once per tier, that
+     * is {@code O(log n)} times, instead of on every compaction. When the merge fails, the merged runs are rewound to
+     * where it started and put back.
+     */
+    private void compact() throws IOException {
+        var all = new ArrayList<Run<E>>(runs.size());
+        var counts = new int[32 / TIER_BITS + 1];
+        Run<E> r;
+        while ((r = runs.poll()) != null) {
+            all.add(r);
+            counts[tier(r)]++;
+        }
+
+        int tier = 0;
+        while (counts[tier] < 2) {
+            tier++;
+        }
+        var merged = new ArrayList<Run<E>>();
+        for (var run : all) {
+            if (tier(run) == tier) {
+                merged.add(run);
+            } else {
+                runs.offer(run);
+            }
+        }
+
+        var heap = newRunHeap();
+        RunWriter<E> w = null;
+        int marked = 0;
+        try {
+            for (var run : merged) {
+                run.mark();
+                marked++;
+            }
+            heap.addAll(merged);
+
+            w = new RunWriter<>(directory, serializer);
+            while ((r = heap.poll()) != null) {
+                w.write(r.head);
+                // the exhausted runs are closed only when the merged one is complete
+                if (r.remaining > 0) {
+                    r.advance();
+                    heap.offer(r);
+                }
+            }
+            r = w.finish();
+            r.advance();
+        } catch (IOException | RuntimeException ex) {
+            if (w != null) {
+                w.abort();
+            }
+            rewind(merged, marked, ex);
+            throw ex;
+        }
+
+        for (var run : merged) {
+            run.close();
+        }
+        runs.offer(r);
+    }
+
+    private static int tier(Run<?> r) {
+        return (31 - Integer.numberOfLeadingZeros(r.size())) / TIER_BITS;
+    }
+
+    /**
+     * Puts back the runs of the failed merge, the first {@code marked} of them are rewound first. The run that can't
+     * be rewound is deleted and its elements are subtracted from the size.
+     */
+    private void rewind(List<Run<E>> merged, int marked, Exception failure) {
+        for (int i = 0; i < merged.size(); i++) {
+            var run = merged.get(i);
+            try {
+                if (i < marked) {
+                    run.reset();
+                }
+                runs.offer(run);
+            } catch (IOException ex) {
+                failure.addSuppressed(ex);
+                size -= run.size();
+                run.close();
+            }
+        }
+    }
+
+    /**
+     * Moves the polled run to its next element and puts it back, or deletes it when exhausted. When the read fails, the
+     * run is deleted, its elements are subtracted from the size and the failure is kept for the next {@link #poll()}.
+     */
+    private void advance(Run<E> r) {
+        try {
+            if (r.advance()) {
+                runs.offer(r);
+            }
+        } catch (UncheckedIOException ex) {
+            size -= r.remaining;
+            r.close();
+            pendingFailure = ex;
+        }
+    }
+
+    /**
+     * Writes and reads the elements of the queue.
+     */
+    public interface Serializer<E> {
+        void write(E e, DataOutput out) throws IOException;
+
+        E read(DataInput in) throws IOException;
+    }
+
+    private static final class RunWriter<E> {
+        private final Serializer<E> serializer;
+        private final FileChannel channel;
+        private final DataOutputStream out;
+        private int count;
+
+        RunWriter(Path directory, Serializer<E> serializer) throws IOException {
+            this.serializer = serializer;
+            var file = Files.createTempFile(directory, "epq-", ".run");
+            try {
+                channel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            }
+            out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        }
+
+        void write(E e) throws IOException {
+            serializer.write(e, out);
+            count++;
+        }
+
+        /**
+         * Closes the channel, deleting the partially written run.
+         */
+        void abort() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the file is deleted on close, nothing to recover
+            }
+        }
+
+        /**
+         * Flushes the written elements and rewinds the file for reading. The output stream is not closed, since it
+         * would close the channel.
+         */
+        Run<E> finish() throws IOException {
+            try {
+                out.flush();
+                channel.position(0);
+            } catch (IOException ex) {
+                abort();
+                throw ex;
+            }
+
+            return new Run<>(serializer, channel, count);
+        }
+    }
+
+    private static final class Run<E> {
+        private final Serializer<E> serializer;
+        private final FileChannel channel;
+        private RunInput buffer;
+        private DataInputStream in;
+        private int remaining;
+        E head;
+        private long markPosition;
+        private int markRemaining;
+        private E markHead;
+
+        Run(Serializer<E> serializer, FileChannel channel, int count) {
+            this.serializer = serializer;
+            this.channel = channel;
+            this.remaining = count;
+            open();
+        }
+
+        /**
+         * Starts reading at the current position of the channel.
+         */
+        private void open() {
+            buffer = new RunInput(Channels.newInputStream(channel));
+            in = new DataInputStream(buffer);
+        }
+
+        /**
+         * The number of elements left, including {@link #head}.
+         */
+        int size() {
+            return remaining + 1;
+        }
+
+        /**
+         * Saves {@link #head} and the position of the next element for {@link #reset()}.
+         */
+        void mark() throws IOException {
+            markPosition = channel.position() - buffer.buffered();
+            markRemaining = remaining;
+            markHead = head;
+        }
+
+        /**
+         * Returns to the state saved by {@link #mark()}, dropping the bytes read ahead.
+         */
+        void reset() throws IOException {
+            head = markHead;
+            remaining = markRemaining;
+            markHead = null;
+            channel.position(markPosition);
+            open();
+        }
+
+        /**
+         * Reads the next element into {@link #head}.
+         *
+         * @return {@code false} if the run is exhausted, the file is deleted then.
+         */
+        boolean advance() {
+            if (remaining == 0) {
+                close();
+                return false;
+            }
+
+            try {
+                head = Objects.requireNonNull(serializer.read(in), "Serializer returned null");
+                remaining--;
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        void close() {
+            head = null;
+            remaining = 0;
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // the file is deleted on close, nothing to recover
+            }
+        }
+    }
+
+    /**
+     * The buffered stream telling how many bytes it has read ahead of the consumer.
+     */
+    private static final class RunInput extends BufferedInputStream {
+        RunInput(InputStream in) {
+            super(in, BUFFER_SIZE);
+        }
+
+        int buffered() {
+            return count - pos;
+        }
+    }
+}
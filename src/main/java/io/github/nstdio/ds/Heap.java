@@ -0,0 +1,33 @@
+package io.github.nstdio.ds;
+
+import java.util.Queue;
+
+/**
+ * The priority queue: {@link #poll()} and {@link #peek()} return the head, the element going first in the order
+ * defined by the implementation. Iteration order is unspecified.
+ *
+ * @see PriorityQueue
+ * @see PairingHeap
+ * @see RadixHeap
+ */
+public interface Heap<E> extends Queue<E> {
+    /**
+     * Moves all elements of {@code other} into this heap, leaving {@code other} empty. The default implementation moves
+     * the head of {@code other} one by one, so it works for the heaps that can't be iterated, implementations override
+     * it where the heaps can be linked faster. The head is removed from {@code other} only after this heap accepted it,
+     * so the element rejected with the exception stays in {@code other} along with the rest.
+     *
+     * @throws IllegalArgumentException when {@code other} is this heap.
+     */
+    default void meld(Heap<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't meld the heap with itself");
+        }
+
+        E e;
+        while ((e = other.peek()) != null) {
+            offer(e);
+            other.poll();
+        }
+    }
+}
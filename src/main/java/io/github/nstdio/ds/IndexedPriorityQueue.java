@@ -0,0 +1,280 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The 4-ary max heap remembering the position of every element. {@link #insert(Object)} returns the {@link Handle}
+ * of the element, which is kept up to date on every move inside the heap, so the element might be changed with
+ * {@link #update(Handle, Object)} or removed with {@link #remove(Handle)} in O(log n) without searching for it.
+ * <p>
+ * Like {@link PriorityQueue}, {@link #poll()} returns the greatest element according to the comparator, use
+ * {@link Comparator#reverseOrder()} to get the least first.
+ *
+ * @see IntIndexedPriorityQueue
+ */
+public final class IndexedPriorityQueue<E> extends AbstractQueue<E> {
+    private static final int SHIFT = 2;
+
+    private final Comparator<? super E> comparator;
+    @SuppressWarnings("unchecked")
+    private Handle<E>[] q = (Handle<E>[]) new Handle<?>[16];
+    private int size;
+    private int modCount;
+
+    public IndexedPriorityQueue(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public static <E extends Comparable<? super E>> IndexedPriorityQueue<E> naturalOrder() {
+        return new IndexedPriorityQueue<>(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        insert(e);
+        return true;
+    }
+
+    /**
+     * Adds {@code e} to the queue.
+     *
+     * @return The handle to change or remove the element later.
+     */
+    public Handle<E> insert(E e) {
+        Objects.requireNonNull(e);
+        if (size == q.length) {
+            q = Arrays.copyOf(q, size * 2);
+        }
+
+        var h = new Handle<>(e);
+        siftUp(size++, h);
+        modCount++;
+        return h;
+    }
+
+    @Override
+    public E poll() {
+        var h = pollHandle();
+        return h == null ? null : h.value;
+    }
+
+    /**
+     * Removes the head of the queue.
+     *
+     * @return The handle of the removed element or {@code null} if the queue is empty.
+     */
+    public Handle<E> pollHandle() {
+        if (size == 0) {
+            return null;
+        }
+
+        var h = q[0];
+        removeAt(0);
+        return h;
+    }
+
+    @Override
+    public E peek() {
+        return size == 0 ? null : q[0].value;
+    }
+
+    public Handle<E> peekHandle() {
+        return size == 0 ? null : q[0];
+    }
+
+    /**
+     * Replaces the element of {@code h} with {@code e} and moves it up or down depending on the comparison with the
+     * previous element.
+     *
+     * @throws IllegalArgumentException when {@code h} is not in this queue.
+     */
+    public void update(Handle<E> h, E e) {
+        Objects.requireNonNull(e);
+        int i = indexOf(h);
+        E old = h.value;
+        h.value = e;
+        int cmp = comparator.compare(e, old);
+        if (cmp > 0) {
+            siftUp(i, h);
+        } else if (cmp < 0) {
+            siftDown(i, h);
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes the element of {@code h} from the queue.
+     *
+     * @return {@code false} if {@code h} was already removed.
+     * @throws IllegalArgumentException when {@code h} belongs to another queue.
+     */
+    public boolean remove(Handle<E> h) {
+        if (h.index < 0) {
+            return false;
+        }
+
+        removeAt(indexOf(h));
+        return true;
+    }
+
+    /**
+     * Removes the single instance of {@code o} found by the linear scan, prefer {@link #remove(Handle)} where the
+     * handle is known.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (o.equals(q[i].value)) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the element of {@code h} is still in this queue.
+     */
+    public boolean contains(Handle<E> h) {
+        int i = h.index;
+        return i >= 0 && i < size && q[i] == h;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            q[i].index = -1;
+            q[i] = null;
+        }
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * The iterator over elements in no particular order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+
+                return q[cursor++].value;
+            }
+        };
+    }
+
+    private int indexOf(Handle<E> h) {
+        if (!contains(h)) {
+            throw new IllegalArgumentException("Handle is not in this queue");
+        }
+        return h.index;
+    }
+
+    private void removeAt(int i) {
+        var q = this.q;
+        var removed = q[i];
+        int n = --size;
+        var last = q[n];
+        q[n] = null;
+        removed.index = -1;
+        modCount++;
+        if (i == n) {
+            return;
+        }
+
+        siftDown(i, last);
+        if (q[i] == last) {
+            siftUp(i, last);
+        }
+    }
+
+    private void siftUp(int k, Handle<E> h) {
+        var q = this.q;
+        var cmp = comparator;
+        E e = h.value;
+        while (k > 0) {
+            int parent = (k - 1) >>> SHIFT;
+            var p = q[parent];
+            if (cmp.compare(p.value, e) >= 0) {
+                break;
+            }
+            q[k] = p;
+            p.index = k;
+            k = parent;
+        }
+        q[k] = h;
+        h.index = k;
+    }
+
+    private void siftDown(int k, Handle<E> h) {
+        var q = this.q;
+        var cmp = comparator;
+        E e = h.value;
+        int n = size;
+        int lastParent = (n - 2) >> SHIFT;
+        while (k <= lastParent) {
+            int first = (k << SHIFT) + 1;
+            int end = Math.min(first + (1 << SHIFT), n);
+            int best = first;
+            var bestH = q[first];
+            for (int c = first + 1; c < end; c++) {
+                if (cmp.compare(q[c].value, bestH.value) > 0) {
+                    best = c;
+                    bestH = q[c];
+                }
+            }
+            if (cmp.compare(e, bestH.value) >= 0) {
+                break;
+            }
+            q[k] = bestH;
+            bestH.index = k;
+            k = best;
+        }
+        q[k] = h;
+        h.index = k;
+    }
+
+    /**
+     * The reference to the element inside the queue. The handle stays valid until the element is polled or removed.
+     */
+    public static final class Handle<E> {
+        private E value;
+        private int index = -1;
+
+        private Handle(E value) {
+            this.value = value;
+        }
+
+        public E value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.nstdio.ds;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * The 4-ary min heap of int ids in {@code [0, capacity)} with {@code long} keys. The position of every id is kept in
+ * the array indexed by the id, so {@link #decreaseKey(int, long)}, {@link #increaseKey(int, long)} and
+ * {@link #remove(int)} are O(log n) and neither the ids nor the keys are boxed. This is the queue of the Dijkstra
+ * search over the graph with numbered vertices: the id is the vertex, the key is the tentative distance.
+ * <p>
+ * Unlike {@link IndexedPriorityQueue} the least key is polled first.
+ */
+public final class IntIndexedPriorityQueue {
+    private static final int SHIFT = 2;
+
+    /**
+     * The heap of ids.
+     */
+    private final int[] heap;
+    /**
+     * The position of the id in the {@link #heap} or {@code -1} if the id is absent.
+     */
+    private final int[] pos;
+    /**
+     * The key of the id.
+     */
+    private final long[] keys;
+    private int size;
+
+    /**
+     * @param capacity The upper bound (exclusive) of the ids.
+     */
+    public IntIndexedPriorityQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity should be non-negative: " + capacity);
+        }
+
+        heap = new int[capacity];
+        pos = new int[capacity];
+        keys = new long[capacity];
+        Arrays.fill(pos, -1);
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return pos[checkId(id)] >= 0;
+    }
+
+    /**
+     * @throws NoSuchElementException when {@code id} is absent.
+     */
+    public long key(int id) {
+        checkPresent(id);
+        return keys[id];
+    }
+
+    /**
+     * Adds the {@code id} with the {@code key}.
+     *
+     * @throws IllegalArgumentException when {@code id} is already in the queue.
+     */
+    public void offer(int id, long key) {
+        if (contains(id)) {
+            throw new IllegalArgumentException("id is already in the queue: " + id);
+        }
+
+        keys[id] = key;
+        siftUp(size++, id);
+    }
+
+    /**
+     * The id with the least key.
+     *
+     * @throws NoSuchElementException when queue is empty.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * The least key.
+     *
+     * @throws NoSuchElementException when queue is empty.
+     */
+    public long peekKey() {
+        return keys[peek()];
+    }
+
+    /**
+     * Removes the id with the least key.
+     *
+     * @throws NoSuchElementException when queue is empty.
+     */
+    public int poll() {
+        int id = peek();
+        removeAt(0);
+        return id;
+    }
+
+    /**
+     * Sets the key of {@code id} to the {@code key} less than or equal to the current one.
+     *
+     * @throws IllegalArgumentException when {@code key} is greater than the current key.
+     * @throws NoSuchElementException   when {@code id} is absent.
+     */
+    public void decreaseKey(int id, long key) {
+        checkPresent(id);
+        if (key > keys[id]) {
+            throw new IllegalArgumentException("key " + key + " is greater than current " + keys[id]);
+        }
+
+        keys[id] = key;
+        siftUp(pos[id], id);
+    }
+
+    /**
+     * Sets the key of {@code id} to the {@code key} greater than or equal to the current one.
+     *
+     * @throws IllegalArgumentException when {@code key} is less than the current key.
+     * @throws NoSuchElementException   when {@code id} is absent.
+     */
+    public void increaseKey(int id, long key) {
+        checkPresent(id);
+        if (key < keys[id]) {
+            throw new IllegalArgumentException("key " + key + " is less than current " + keys[id]);
+        }
+
+        keys[id] = key;
+        siftDown(pos[id], id);
+    }
+
+    /**
+     * Sets the key of {@code id}, adding the {@code id} if it is absent.
+     */
+    public void update(int id, long key) {
+        if (!contains(id)) {
+            offer(id, key);
+        } else if (key < keys[id]) {
+            decreaseKey(id, key);
+        } else {
+            increaseKey(id, key);
+        }
+    }
+
+    /**
+     * Removes the {@code id} from the queue.
+     *
+     * @return {@code false} if the {@code id} was absent.
+     */
+    public boolean remove(int id) {
+        if (!contains(id)) {
+            return false;
+        }
+
+        removeAt(pos[id]);
+        return true;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            pos[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private int checkId(int id) {
+        if (id < 0 || id >= heap.length) {
+            throw new IndexOutOfBoundsException("id " + id + " is out of [0, " + heap.length + ")");
+        }
+        return id;
+    }
+
+    private void checkPresent(int id) {
+        if (!contains(id)) {
+            throw new NoSuchElementException("id is not in the queue: " + id);
+        }
+    }
+
+    private void removeAt(int i) {
+        int removed = heap[i];
+        int n = --size;
+        int last = heap[n];
+        pos[removed] = -1;
+        if (i == n) {
+            return;
+        }
+
+        siftDown(i, last);
+        if (heap[i] == last) {
+            siftUp(i, last);
+        }
+    }
+
+    private void siftUp(int k, int id) {
+        var heap = this.heap;
+        var pos = this.pos;
+        long key = keys[id];
+        while (k > 0) {
+            int parent = (k - 1) >>> SHIFT;
+            int p = heap[parent];
+            if (keys[p] <= key) {
+                break;
+            }
+            heap[k] = p;
+            pos[p] = k;
+            k = parent;
+        }
+        heap[k] = id;
+        pos[id] = k;
+    }
+
+    private void siftDown(int k, int id) {
+        var heap = this.heap;
+        var pos = this.pos;
+        var keys = this.keys;
+        long key = keys[id];
+        int n = size;
+        int lastParent = (n - 2) >> SHIFT;
+        while (k <= lastParent) {
+            int first = (k << SHIFT) + 1;
+            int end = Math.min(first + (1 << SHIFT), n);
+            int best = first;
+            long bestKey = keys[heap[first]];
+            for (int c = first + 1; c < end; c++) {
+                long ck = keys[heap[c]];
+                if (ck < bestKey) {
+                    best = c;
+                    bestKey = ck;
+                }
+            }
+            if (key <= bestKey) {
+                break;
+            }
+            int b = heap[best];
+            heap[k] = b;
+            pos[b] = k;
+            k = best;
+        }
+        heap[k] = id;
+        pos[id] = k;
+    }
+}
@@ -0,0 +1,171 @@
+package io.github.nstdio.ds;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The 4-ary min heap of {@code (long priority, payload)} pairs stored in two parallel arrays. The priorities are
+ * compared as primitives, so neither the comparison nor the insertion allocates or dispatches through the
+ * {@link java.util.Comparator}, and sifting reads the {@code long[]} sequentially instead of dereferencing the elements.
+ * <p>
+ * The least priority is polled first, which fits deadlines and timestamps. The order of the pairs with equal
+ * priorities is unspecified.
+ */
+public final class LongPriorityQueue<E> {
+    private static final int SHIFT = 2;
+    private static final long[] EMPTY_PRIORITIES = {};
+    private static final Object[] EMPTY_PAYLOADS = {};
+
+    private long[] priorities = EMPTY_PRIORITIES;
+    private Object[] payloads = EMPTY_PAYLOADS;
+    private int size;
+
+    public LongPriorityQueue() {
+    }
+
+    public LongPriorityQueue(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("initialCapacity should be non-negative: " + initialCapacity);
+        }
+
+        priorities = new long[initialCapacity];
+        payloads = new Object[initialCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds the {@code payload} with the {@code priority}.
+     */
+    public void offer(long priority, E payload) {
+        Objects.requireNonNull(payload);
+        if (size == priorities.length) {
+            grow();
+        }
+
+        siftUp(size++, priority, payload);
+    }
+
+    private void grow() {
+        int newCapacity = Math.max(16, priorities.length * 2);
+        priorities = Arrays.copyOf(priorities, newCapacity);
+        payloads = Arrays.copyOf(payloads, newCapacity);
+    }
+
+    /**
+     * The least priority.
+     *
+     * @throws NoSuchElementException when queue is empty.
+     */
+    public long peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return priorities[0];
+    }
+
+    /**
+     * The payload with the least priority or {@code null} if the queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        return size == 0 ? null : (E) payloads[0];
+    }
+
+    /**
+     * Removes the payload with the least priority.
+     *
+     * @return The removed payload or {@code null} if the queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        var payloads = this.payloads;
+        E head = (E) payloads[0];
+        int n = --size;
+        long lastPriority = priorities[n];
+        Object last = payloads[n];
+        payloads[n] = null;
+        if (n > 0) {
+            siftDown(0, lastPriority, last);
+        }
+        return head;
+    }
+
+    /**
+     * Polls all payloads with the priority less than or equal to {@code priority} in the priority order, e.g. every
+     * expired deadline.
+     *
+     * @return The number of polled payloads.
+     */
+    public int drainUntil(long priority, Consumer<? super E> consumer) {
+        Objects.requireNonNull(consumer);
+        int n = 0;
+        while (size > 0 && priorities[0] <= priority) {
+            consumer.accept(poll());
+            n++;
+        }
+        return n;
+    }
+
+    public void clear() {
+        Arrays.fill(payloads, 0, size, null);
+        size = 0;
+    }
+
+    private void siftUp(int k, long priority, Object payload) {
+        var priorities = this.priorities;
+        var payloads = this.payloads;
+        while (k > 0) {
+            int parent = (k - 1) >>> SHIFT;
+            long p = priorities[parent];
+            if (p <= priority) {
+                break;
+            }
+            priorities[k] = p;
+            payloads[k] = payloads[parent];
+            k = parent;
+        }
+        priorities[k] = priority;
+        payloads[k] = payload;
+    }
+
+    private void siftDown(int k, long priority, Object payload) {
+        var priorities = this.priorities;
+        var payloads = this.payloads;
+        int n = size;
+        int lastParent = (n - 2) >> SHIFT;
+        while (k <= lastParent) {
+            int first = (k << SHIFT) + 1;
+            int end = Math.min(first + (1 << SHIFT), n);
+            int best = first;
+            long bestPriority = priorities[first];
+            for (int c = first + 1; c < end; c++) {
+                long p = priorities[c];
+                if (p < bestPriority) {
+                    best = c;
+                    bestPriority = p;
+                }
+            }
+            if (priority <= bestPriority) {
+                break;
+            }
+            priorities[k] = bestPriority;
+            payloads[k] = payloads[best];
+            k = best;
+        }
+        priorities[k] = priority;
+        payloads[k] = payload;
+    }
+}
@@ -0,0 +1,298 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The double-ended priority queue backed by the min-max heap: the binary heap in the array where the nodes on even
+ * levels are less than or equal to all their descendants and the nodes on odd levels are greater than or equal to all
+ * their descendants. The least element is the root and the greatest is one of its children, so both ends are peeked in
+ * O(1) and polled in O(log n). Sifting compares the element with the grandparent or the grandchildren, skipping the
+ * level of the opposite kind, and moves the elements into the hole like {@link PriorityQueue} does.
+ * <p>
+ * Like {@link PriorityQueue}, {@link #poll()} and {@link #peek()} take the greatest element according to the
+ * comparator.
+ */
+public final class MinMaxPriorityQueue<E> extends AbstractQueue<E> implements Heap<E> {
+    private final Comparator<? super E> comparator;
+    private Object[] q = new Object[16];
+    private int size;
+    private int modCount;
+
+    public MinMaxPriorityQueue(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public static <E extends Comparable<? super E>> MinMaxPriorityQueue<E> naturalOrder() {
+        return new MinMaxPriorityQueue<>(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (size == q.length) {
+            q = Arrays.copyOf(q, size * 2);
+        }
+
+        siftUp(size++, e);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E peek() {
+        return peekMax();
+    }
+
+    @Override
+    public E poll() {
+        return pollMax();
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekMin() {
+        return size == 0 ? null : (E) q[0];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E peekMax() {
+        return size == 0 ? null : (E) q[maxIndex()];
+    }
+
+    /**
+     * Removes the least element.
+     *
+     * @return The removed element or {@code null} if the queue is empty.
+     */
+    public E pollMin() {
+        return size == 0 ? null : removeAt(0);
+    }
+
+    /**
+     * Removes the greatest element.
+     *
+     * @return The removed element or {@code null} if the queue is empty.
+     */
+    public E pollMax() {
+        return size == 0 ? null : removeAt(maxIndex());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = indexOf(o);
+        if (i < 0) {
+            return false;
+        }
+
+        removeAt(i);
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(q, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * The iterator over elements in no particular order, it does not support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+
+                return (E) q[cursor++];
+            }
+        };
+    }
+
+    private int indexOf(Object o) {
+        if (o != null) {
+            for (int i = 0; i < size; i++) {
+                if (o.equals(q[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The index of the greatest element: the root if it is alone, otherwise the greater of its children.
+     */
+    private int maxIndex() {
+        if (size <= 2) {
+            return size - 1;
+        }
+        return cmp(q[1], q[2]) >= 0 ? 1 : 2;
+    }
+
+    private static boolean isMinLevel(int i) {
+        // the level of the node i is floor(log2(i + 1))
+        return ((31 - Integer.numberOfLeadingZeros(i + 1)) & 1) == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int cmp(Object a, Object b) {
+        return comparator.compare((E) a, (E) b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeAt(int i) {
+        var q = this.q;
+        var removed = (E) q[i];
+        int n = --size;
+        var last = q[n];
+        q[n] = null;
+        modCount++;
+        if (i != n) {
+            fill(i, last);
+        }
+        return removed;
+    }
+
+    /**
+     * Places {@code e} into the hole at {@code i} inside the heap. When {@code e} violates the parent, which is of the
+     * opposite kind, {@code e} goes up and the parent, now in the hole, is the extreme of the whole subtree of the
+     * wrong kind, so it goes down. When {@code e} fits the parent but not the grandparent, it goes up only. Otherwise
+     * {@code e} is within the bounds of the ancestors and goes down.
+     */
+    private void fill(int i, Object e) {
+        if (i > 0) {
+            int parent = (i - 1) >>> 1;
+            var p = q[parent];
+            if (better(e, p, !isMinLevel(i))) {
+                siftUp(i, e);
+                siftDown(i, p);
+                return;
+            }
+        }
+
+        if (siftUp(i, e) == i) {
+            siftDown(i, e);
+        }
+    }
+
+    /**
+     * Places {@code e} into the hole at {@code k}: first against the parent, which is of the opposite kind, then
+     * along the grandparents of the kind the element ended up in.
+     *
+     * @return The index the element {@code e} ended up at.
+     */
+    private int siftUp(int k, Object e) {
+        var q = this.q;
+        if (k == 0) {
+            q[0] = e;
+            return 0;
+        }
+
+        int parent = (k - 1) >>> 1;
+        boolean min = isMinLevel(k);
+        int c = cmp(e, q[parent]);
+        if (min ? c > 0 : c < 0) {
+            q[k] = q[parent];
+            k = parent;
+            min = !min;
+        }
+
+        while (k >= 3) {
+            int grand = (k - 3) >>> 2;
+            c = cmp(e, q[grand]);
+            if (min ? c >= 0 : c <= 0) {
+                break;
+            }
+            q[k] = q[grand];
+            k = grand;
+        }
+        q[k] = e;
+        return k;
+    }
+
+    /**
+     * Places {@code e} into the hole at {@code k} moving it down to the least (on min level) or the greatest (on max
+     * level) of the children and grandchildren. Moving to the grandchild, the element is exchanged with the parent of
+     * that grandchild if it violates the order of the opposite level.
+     */
+    private void siftDown(int k, Object e) {
+        var q = this.q;
+        boolean min = isMinLevel(k);
+        int n = size;
+        for (;;) {
+            int child = 2 * k + 1;
+            if (child >= n) {
+                break;
+            }
+
+            // the extreme of up to 2 children and 4 grandchildren, the grandchild wins the tie: the child is picked
+            // only when it has no children, so the element placed there can't violate the order below
+            int m = child;
+            int end = Math.min(child + 2, n);
+            for (int i = child + 1; i < end; i++) {
+                if (better(q[i], q[m], min)) {
+                    m = i;
+                }
+            }
+            int grand = 2 * child + 1;
+            end = Math.min(grand + 4, n);
+            for (int i = grand; i < end; i++) {
+                if (!better(q[m], q[i], min)) {
+                    m = i;
+                }
+            }
+
+            if (!better(q[m], e, min)) {
+                break;
+            }
+
+            q[k] = q[m];
+            k = m;
+            if (m < grand) {
+                break;
+            }
+
+            int parent = (m - 1) >>> 1;
+            if (better(e, q[parent], !min)) {
+                var t = q[parent];
+                q[parent] = e;
+                e = t;
+            }
+        }
+        q[k] = e;
+    }
+
+    private boolean better(Object a, Object b, boolean min) {
+        int c = cmp(a, b);
+        return min ? c < 0 : c > 0;
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.nstdio.ds;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The unbounded non-blocking multi-producer single-consumer queue. Producers never retry: {@link #offer(Object)}
+ * atomically swaps the {@code tail} with the new node and then links the previous tail to it. The consumer owns the
+ * {@code head} and moves it with plain writes, so {@link #poll()} performs no CAS at all. Compared to
+ * {@link ConcurrentLinkedQueue} it fits the event loop pattern, where any thread submits tasks and a single thread
+ * executes them.
+ * <p>
+ * Only the single consumer thread is allowed to call {@link #poll()}, {@link #peek()}, {@link #drain(Consumer, int)},
+ * {@link #size()}, {@link #isEmpty()} and {@link #iterator()}. The {@code null} elements are not permitted.
+ */
+public final class MpscLinkedQueue<E> extends AbstractQueue<E> {
+    private static final VarHandle TAIL;
+    private static final VarHandle NEXT;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            TAIL = lookup.findVarHandle(MpscLinkedQueue.class, "tail", Node.class);
+            NEXT = lookup.findVarHandle(Node.class, "next", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The dummy node, accessed by the consumer only.
+     */
+    private Node<E> head;
+    private volatile Node<E> tail;
+
+    public MpscLinkedQueue() {
+        head = tail = new Node<>(null);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        var n = new Node<>(Objects.requireNonNull(e));
+        @SuppressWarnings("unchecked")
+        var prev = (Node<E>) TAIL.getAndSet(this, n);
+        // between the swap and this store the consumer sees the chain broken, see nextOf
+        NEXT.setRelease(prev, n);
+
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        var h = head;
+        var next = nextOf(h);
+        if (next == null) {
+            return null;
+        }
+
+        E item = next.item;
+        next.item = null;
+        NEXT.setRelease(h, h);
+        head = next;
+
+        return item;
+    }
+
+    @Override
+    public E peek() {
+        var next = nextOf(head);
+        return next == null ? null : next.item;
+    }
+
+    /**
+     * The successor of {@code h} when the queue is not empty. A producer that already swapped the {@code tail} but has
+     * not linked the node yet is waited for, so the queue never looks empty while it holds an element.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> nextOf(Node<E> h) {
+        var next = (Node<E>) NEXT.getAcquire(h);
+        if (next == null && h != tail) {
+            while ((next = (Node<E>) NEXT.getAcquire(h)) == null) {
+                Thread.onSpinWait();
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Polls up to {@code limit} elements passing each of them to {@code consumer}.
+     *
+     * @param consumer The consumer of the elements.
+     * @param limit    The maximal number of elements to poll.
+     *
+     * @return The number of polled elements.
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        Objects.requireNonNull(consumer);
+        if (limit < 0) {
+            throw new IllegalArgumentException("limit should not be negative: " + limit);
+        }
+
+        int count = 0;
+        for (E e; count < limit && (e = poll()) != null; count++) {
+            consumer.accept(e);
+        }
+
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nextOf(head) == null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int size() {
+        int count = 0;
+        for (var p = (Node<E>) NEXT.getAcquire(head); p != null && count < Integer.MAX_VALUE; count++) {
+            var n = (Node<E>) NEXT.getAcquire(p);
+            p = n == p ? null : n;
+        }
+
+        return count;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            @SuppressWarnings("unchecked")
+            private Node<E> next = (Node<E>) NEXT.getAcquire(head);
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next == null)
+                    throw new NoSuchElementException();
+
+                var p = next;
+                var n = (Node<E>) NEXT.getAcquire(p);
+                next = n == p ? null : n;
+                return p.item;
+            }
+        };
+    }
+
+    private static final class Node<E> {
+        E item;
+        Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * The pairing heap: the heap-ordered multiway tree where every node keeps the list of its children. Linking two trees
+ * makes the root with the lesser element the first child of the other one, so {@link #offer(Object)} and
+ * {@link #meld(Heap)} of two pairing heaps are O(1). {@link #poll()} removes the root and links its children in two
+ * passes, first in pairs from left to right and then the pairs from right to left, which is O(log n) amortized.
+ * <p>
+ * Like {@link PriorityQueue}, {@link #poll()} returns the greatest element according to the comparator. Removal of
+ * arbitrary elements is not supported.
+ */
+public final class PairingHeap<E> extends AbstractQueue<E> implements Heap<E> {
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+    private int size;
+    private int modCount;
+
+    public PairingHeap(Comparator<? super E> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+    }
+
+    public static <E extends Comparable<? super E>> PairingHeap<E> naturalOrder() {
+        return new PairingHeap<>(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        var n = new Node<>(e);
+        root = root == null ? n : link(root, n);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public E peek() {
+        return root == null ? null : root.e;
+    }
+
+    @Override
+    public E poll() {
+        var r = root;
+        if (r == null) {
+            return null;
+        }
+
+        root = mergePairs(r.child);
+        r.child = null;
+        size--;
+        modCount++;
+        return r.e;
+    }
+
+    /**
+     * Links the heaps in O(1) when {@code other} is the pairing heap with the equal comparator, otherwise adds the
+     * elements one by one.
+     */
+    @Override
+    public void meld(Heap<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't meld the heap with itself");
+        }
+        if (!(other instanceof PairingHeap) || !comparator.equals(((PairingHeap<?>) other).comparator)) {
+            Heap.super.meld(other);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        var o = (PairingHeap<E>) other;
+        if (o.root != null) {
+            root = root == null ? o.root : link(root, o.root);
+            size += o.size;
+            modCount++;
+            o.root = null;
+            o.size = 0;
+            o.modCount++;
+        }
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * The iterator over elements in no particular order, it does not support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+            private final int expectedModCount = modCount;
+
+            {
+                if (root != null) {
+                    stack.push(root);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (stack.isEmpty())
+                    throw new NoSuchElementException();
+
+                var n = stack.pop();
+                if (n.next != null) {
+                    stack.push(n.next);
+                }
+                if (n.child != null) {
+                    stack.push(n.child);
+                }
+                return n.e;
+            }
+        };
+    }
+
+    /**
+     * Makes the root with the lesser element the first child of the other root.
+     */
+    private Node<E> link(Node<E> a, Node<E> b) {
+        if (comparator.compare(a.e, b.e) < 0) {
+            var t = a;
+            a = b;
+            b = t;
+        }
+
+        b.next = a.child;
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * The two-pass merge of the sibling list, iterative so a long list of children can't overflow the stack.
+     */
+    private Node<E> mergePairs(Node<E> first) {
+        // the first pass links siblings in pairs, the pairs are pushed in reverse order
+        Node<E> pairs = null;
+        while (first != null) {
+            var a = first;
+            var b = a.next;
+            if (b == null) {
+                a.next = pairs;
+                pairs = a;
+                break;
+            }
+
+            first = b.next;
+            a.next = b.next = null;
+            var linked = link(a, b);
+            linked.next = pairs;
+            pairs = linked;
+        }
+
+        // the second pass links the pairs from right to left
+        Node<E> result = null;
+        while (pairs != null) {
+            var next = pairs.next;
+            pairs.next = null;
+            result = result == null ? pairs : link(result, pairs);
+            pairs = next;
+        }
+        return result;
+    }
+
+    private static final class Node<E> {
+        final E e;
+        Node<E> child;
+        Node<E> next;
+
+        Node(E e) {
+            this.e = e;
+        }
+    }
+}
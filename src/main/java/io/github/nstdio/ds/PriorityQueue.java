@@ -3,17 +3,57 @@ package io.github.nstdio.ds;
 import java.lang.reflect.Array;
 import java.util.*;
 
-final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
+/**
+ * The d-ary max heap: {@link #poll()} returns the greatest element according to the comparator. The heap is stored
+ * 0-indexed, children of the node {@code k} are at {@code k * d + 1 .. k * d + d}. Wider nodes make the tree
+ * {@code log2(d)} times shallower, and the siblings compared on the way down are adjacent in the array, so a 4-ary or
+ * 8-ary heap touches fewer cache lines than a binary one. Sifting moves the elements into the hole instead of swapping
+ * them, so every level costs one array write.
+ */
+public final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> implements Heap<E> {
+    static final int DEFAULT_ARITY = 4;
+
     private final Comparator<E> comparator;
-    private E[] q = newArray(10);
+    private final int shift;
+    private E[] q = newArray(16);
     private int size;
+    private int modCount;
 
-    PriorityQueue() {
+    public PriorityQueue() {
         this(Comparator.naturalOrder());
     }
 
-    PriorityQueue(Comparator<E> comparator) {
+    public PriorityQueue(Comparator<E> comparator) {
+        this(comparator, DEFAULT_ARITY);
+    }
+
+    public PriorityQueue(int arity) {
+        this(Comparator.naturalOrder(), arity);
+    }
+
+    /**
+     * @param arity The number of children of every node, power of two in {@code [2, 64]}.
+     */
+    public PriorityQueue(Comparator<E> comparator, int arity) {
+        if (arity < 2 || arity > 64 || Integer.bitCount(arity) != 1) {
+            throw new IllegalArgumentException("arity should be power of two in [2, 64]: " + arity);
+        }
+
         this.comparator = Objects.requireNonNull(comparator);
+        this.shift = Integer.numberOfTrailingZeros(arity);
+    }
+
+    public PriorityQueue(Collection<? extends E> c) {
+        this(Comparator.naturalOrder(), DEFAULT_ARITY, c);
+    }
+
+    /**
+     * Creates the queue with the elements of {@code c} arranged by the bottom-up heap construction in O(n) instead
+     * of O(n log n) taken by the one by one insertion.
+     */
+    public PriorityQueue(Comparator<E> comparator, int arity, Collection<? extends E> c) {
+        this(comparator, arity);
+        offerAll(c);
     }
 
     private E[] newArray(int size) {
@@ -23,10 +63,18 @@ final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
         return a;
     }
 
+    public int arity() {
+        return 1 << shift;
+    }
+
+    /**
+     * The iterator over elements in the order of the heap array, which is not sorted. See {@link #sortedIterator()}.
+     */
     @Override
     public Iterator<E> iterator() {
         return new Iterator<>() {
-            private int cursor = 1;
+            private final int expectedModCount = modCount;
+            private int cursor;
 
             @Override
             public boolean hasNext() {
@@ -35,6 +83,8 @@ final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
 
             @Override
             public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
                 if (!hasNext())
                     throw new NoSuchElementException();
 
@@ -43,6 +93,38 @@ final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
         };
     }
 
+    /**
+     * The iterator over elements in the poll order, leaving the queue unchanged. The heap is walked lazily: the
+     * auxiliary binary heap holds the indices of the nodes whose parents have been returned, the greatest of them is
+     * the next element, and its children take its place. Taking the first {@code k} elements costs
+     * O(k * d * log(k * d)) regardless of the queue size, the queue must not be modified meanwhile.
+     */
+    public Iterator<E> sortedIterator() {
+        return new SortedIterator();
+    }
+
+    /**
+     * Polls up to {@code maxElements} elements in the poll order into {@code c}.
+     *
+     * @return The number of moved elements.
+     */
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Can't drain the queue to itself");
+        }
+
+        int n = Math.min(maxElements, size);
+        for (int i = 0; i < n; i++) {
+            c.add(poll());
+        }
+        return Math.max(n, 0);
+    }
+
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
     @Override
     public int size() {
         return size;
@@ -50,63 +132,292 @@ final class PriorityQueue<E extends Comparable<E>> extends AbstractQueue<E> {
 
     @Override
     public boolean offer(E k) {
-        if (size == q.length - 1) {
+        if (size == q.length) {
             q = Arrays.copyOf(q, size * 2);
         }
 
-        q[++size] = k;
-        swim(size);
+        siftUp(size++, k);
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Adds all elements of {@code c}. The elements are appended to the array first, then only the subtrees containing
+     * them are restored level by level from the bottom, so adding {@code k} elements costs O(k + log n) sift-downs
+     * rather than {@code k} sift-ups.
+     *
+     * @return {@code true} if the queue changed.
+     */
+    public boolean offerAll(Collection<? extends E> c) {
+        var a = c.toArray();
+        int k = a.length;
+        if (k == 0) {
+            return false;
+        }
+
+        int lo = size;
+        int n = lo + k;
+        if (n > q.length) {
+            q = Arrays.copyOf(q, Math.max(n, q.length * 2));
+        }
+        var q = this.q;
+        for (int i = 0; i < k; i++) {
+            @SuppressWarnings("unchecked")
+            var e = (E) Objects.requireNonNull(a[i]);
+            q[lo + i] = e;
+        }
+        size = n;
+        modCount++;
+
+        int hi = n - 1;
+        while (hi > 0) {
+            lo = Math.max(0, (lo - 1) >> shift);
+            hi = (hi - 1) >>> shift;
+            for (int i = hi; i >= lo; i--) {
+                siftDown(i, q[i]);
+            }
+        }
         return true;
     }
 
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        return offerAll(c);
+    }
+
+    /**
+     * Removes the head and adds {@code e} with the single sift-down, which is cheaper than {@link #poll()} followed by
+     * {@link #offer(Object)}. If the queue is empty {@code e} is just added.
+     *
+     * @return The removed head or {@code null} if the queue was empty.
+     */
+    public E replaceHead(E e) {
+        Objects.requireNonNull(e);
+        if (isEmpty()) {
+            offer(e);
+            return null;
+        }
+
+        E head = q[0];
+        siftDown(0, e);
+        modCount++;
+        return head;
+    }
+
     @Override
     public E poll() {
         if (isEmpty()) {
             return null;
         }
 
-        E max = q[1];
-        swap(1, size--);
-        sink(1);
-        q[size + 1] = null;
+        var q = this.q;
+        E max = q[0];
+        int n = --size;
+        modCount++;
+        E last = q[n];
+        q[n] = null;
+        if (n > 0) {
+            siftDown(0, last);
+        }
         return max;
     }
 
+    /**
+     * Removes the single instance of {@code o} found by the linear scan, the heap order is restored in O(log n).
+     */
     @Override
-    public E peek() {
-        return isEmpty() ? null : q[1];
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        var q = this.q;
+        for (int i = 0, n = size; i < n; i++) {
+            if (o.equals(q[i])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
     }
 
-    private boolean cmp(int i, int j) {
-        return comparator.compare(q[i], q[j]) < 0;
+    @Override
+    public boolean contains(Object o) {
+        if (o == null) {
+            return false;
+        }
+
+        var q = this.q;
+        for (int i = 0, n = size; i < n; i++) {
+            if (o.equals(q[i])) {
+                return true;
+            }
+        }
+        return false;
     }
 
-    private void swap(int i, int j) {
+    @Override
+    public void clear() {
+        Arrays.fill(q, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Fills the hole at {@code i} with the last element, which goes down when it is less than the children or up
+     * otherwise.
+     */
+    private void removeAt(int i) {
         var q = this.q;
-        E t = q[i];
-        q[i] = q[j];
-        q[j] = t;
+        int n = --size;
+        modCount++;
+        E last = q[n];
+        q[n] = null;
+        if (i == n) {
+            return;
+        }
+
+        siftDown(i, last);
+        if (q[i] == last) {
+            siftUp(i, last);
+        }
     }
 
-    private void swim(int k) {
-        while (k > 1 && cmp(k / 2, k)) {
-            swap(k / 2, k);
-            k = k / 2;
+    @Override
+    public E peek() {
+        return isEmpty() ? null : q[0];
+    }
+
+    /**
+     * Moves the hole at {@code k} up while the parent is less than {@code e}, then fills it with {@code e}.
+     */
+    private void siftUp(int k, E e) {
+        var q = this.q;
+        var cmp = comparator;
+        while (k > 0) {
+            int parent = (k - 1) >>> shift;
+            E p = q[parent];
+            if (cmp.compare(p, e) >= 0) {
+                break;
+            }
+            q[k] = p;
+            k = parent;
         }
+        q[k] = e;
     }
 
-    private void sink(int k) {
+    /**
+     * Moves the hole at {@code k} down while the greatest child is greater than {@code e}, then fills it with
+     * {@code e}.
+     */
+    private void siftDown(int k, E e) {
+        var q = this.q;
+        var cmp = comparator;
         int n = size;
-        while (2 * k <= n) {
-            int j = 2 * k;
-            if (j < n && cmp(j, j + 1)) {
-                j++;
+        // the last node having children, comparing with it keeps k << shift from overflow
+        int lastParent = (n - 2) >> shift;
+        while (k <= lastParent) {
+            int first = (k << shift) + 1;
+            int end = Math.min(first + (1 << shift), n);
+            int best = first;
+            E bestE = q[first];
+            for (int c = first + 1; c < end; c++) {
+                if (cmp.compare(q[c], bestE) > 0) {
+                    best = c;
+                    bestE = q[c];
+                }
             }
-            if (!cmp(k, j)) {
+            if (cmp.compare(e, bestE) >= 0) {
                 break;
             }
-            swap(k, j);
-            k = j;
+            q[k] = bestE;
+            k = best;
+        }
+        q[k] = e;
+    }
+
+    private final class SortedIterator implements Iterator<E> {
+        private final int expectedModCount = modCount;
+        private int[] frontier = new int[16];
+        private int n;
+
+        SortedIterator() {
+            if (size > 0) {
+                frontier[n++] = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return n > 0;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (n == 0)
+                throw new NoSuchElementException();
+
+            var f = frontier;
+            int top = f[0];
+            int last = f[--n];
+            if (n > 0) {
+                down(last);
+            }
+
+            // the node past the last parent has no children, checking it first keeps top << shift from overflow
+            if (top <= (size - 2) >> shift) {
+                int first = (top << shift) + 1;
+                int end = Math.min(first + (1 << shift), size);
+                for (int c = first; c < end; c++) {
+                    up(c);
+                }
+            }
+            return q[top];
+        }
+
+        private void up(int index) {
+            if (n == frontier.length) {
+                frontier = Arrays.copyOf(frontier, n * 2);
+            }
+
+            var f = frontier;
+            E e = q[index];
+            int k = n++;
+            while (k > 0) {
+                int parent = (k - 1) >>> 1;
+                if (comparator.compare(q[f[parent]], e) >= 0) {
+                    break;
+                }
+                f[k] = f[parent];
+                k = parent;
+            }
+            f[k] = index;
+        }
+
+        private void down(int index) {
+            var f = frontier;
+            E e = q[index];
+            int k = 0;
+            int half = n >>> 1;
+            while (k < half) {
+                int child = 2 * k + 1;
+                int right = child + 1;
+                if (right < n && comparator.compare(q[f[right]], q[f[child]]) > 0) {
+                    child = right;
+                }
+                if (comparator.compare(e, q[f[child]]) >= 0) {
+                    break;
+                }
+                f[k] = f[child];
+                k = child;
+            }
+            f[k] = index;
         }
     }
 }
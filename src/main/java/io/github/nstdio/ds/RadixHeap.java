@@ -0,0 +1,217 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * The monotone priority queue of elements with {@code long} keys, polling the least key first. The keys are never
+ * compared pairwise: the element goes to the bucket numbered by the highest bit in which its key differs from the key
+ * of the last removed head, so bucket {@code i} holds the keys in {@code [last + 2^(i-1), last + 2^i)}. Polling takes
+ * bucket {@code 0}; when it is empty, the first non-empty bucket is scanned for the new least key and its elements are
+ * spread over the lower buckets. Every element moves down at most 64 times, so {@link #offer(Object)} is O(1) and
+ * {@link #poll()} is O(1) amortized, which beats comparison heaps in Dijkstra-like algorithms.
+ * <p>
+ * The queue is monotone: the key of the offered element must not be less than the key of the last polled or peeked
+ * head, otherwise {@link IllegalArgumentException} is thrown.
+ */
+public final class RadixHeap<E> extends AbstractQueue<E> implements Heap<E> {
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final ToLongFunction<? super E> key;
+    private final long[][] keys = new long[BUCKETS][];
+    private final Object[][] values = new Object[BUCKETS][];
+    private final int[] counts = new int[BUCKETS];
+    private long last = Long.MIN_VALUE;
+    private int size;
+    private int modCount;
+
+    /**
+     * @param key The function extracting the key of the element, it is called once per offer.
+     */
+    public RadixHeap(ToLongFunction<? super E> key) {
+        this.key = Objects.requireNonNull(key);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long k = key.applyAsLong(e);
+        if (k < last) {
+            throw new IllegalArgumentException("key " + k + " is less than the key of last head " + last);
+        }
+
+        push(bucket(k), k, e);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peek() {
+        if (size == 0) {
+            return null;
+        }
+
+        pull();
+        return (E) values[0][counts[0] - 1];
+    }
+
+    /**
+     * The least key.
+     *
+     * @throws NoSuchElementException when heap is empty.
+     */
+    public long peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        pull();
+        return last;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        pull();
+        int i = --counts[0];
+        var values = this.values[0];
+        E e = (E) values[i];
+        values[i] = null;
+        size--;
+        modCount++;
+        return e;
+    }
+
+    /**
+     * Moves all elements of {@code other} into this heap. When {@code other} is the radix heap with the same key
+     * function, its least key is checked against the key of the last head first, so the rejected meld leaves both
+     * heaps unchanged. Other heaps are drained in their own order up to the first element this heap rejects.
+     *
+     * @throws IllegalArgumentException when {@code other} is this heap or holds the key less than the key of the last
+     *                                  head.
+     */
+    @Override
+    public void meld(Heap<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't meld the heap with itself");
+        }
+        if (other instanceof RadixHeap && ((RadixHeap<?>) other).key == key && !other.isEmpty()) {
+            long least = ((RadixHeap<?>) other).peekKey();
+            if (least < last) {
+                throw new IllegalArgumentException("key " + least + " is less than the key of last head " + last);
+            }
+        }
+
+        Heap.super.meld(other);
+    }
+
+    @Override
+    public void clear() {
+        for (int b = 0; b < BUCKETS; b++) {
+            if (values[b] != null) {
+                Arrays.fill(values[b], 0, counts[b], null);
+            }
+            counts[b] = 0;
+        }
+        size = 0;
+        last = Long.MIN_VALUE;
+        modCount++;
+    }
+
+    /**
+     * The iterator over elements in no particular order, it does not support removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final int expectedModCount = modCount;
+            private int bucket;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                while (bucket < BUCKETS && cursor >= counts[bucket]) {
+                    bucket++;
+                    cursor = 0;
+                }
+                return bucket < BUCKETS;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                return (E) values[bucket][cursor++];
+            }
+        };
+    }
+
+    private int bucket(long k) {
+        return k == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(k ^ last);
+    }
+
+    /**
+     * Makes bucket {@code 0} non-empty: finds the first non-empty bucket, takes its least key as the new
+     * {@link #last} and redistributes its elements, each of them lands in the lower bucket.
+     */
+    private void pull() {
+        if (counts[0] > 0) {
+            return;
+        }
+
+        int b = 1;
+        while (counts[b] == 0) {
+            b++;
+        }
+
+        var bk = keys[b];
+        var bv = values[b];
+        int n = counts[b];
+        long min = bk[0];
+        for (int i = 1; i < n; i++) {
+            min = Math.min(min, bk[i]);
+        }
+
+        last = min;
+        counts[b] = 0;
+        for (int i = 0; i < n; i++) {
+            push(bucket(bk[i]), bk[i], bv[i]);
+            bv[i] = null;
+        }
+    }
+
+    private void push(int b, long k, Object e) {
+        int n = counts[b];
+        if (keys[b] == null) {
+            keys[b] = new long[8];
+            values[b] = new Object[8];
+        } else if (n == keys[b].length) {
+            keys[b] = Arrays.copyOf(keys[b], n * 2);
+            values[b] = Arrays.copyOf(values[b], n * 2);
+        }
+
+        keys[b][n] = k;
+        values[b][n] = e;
+        counts[b] = n + 1;
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.nstdio.ds;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The hierarchical timing wheel for scheduling and cancelling timeouts. The time is divided into ticks of
+ * {@code tickDuration}, the timeout is placed into the slot of the wheel covering its deadline: the lowest level has
+ * one slot per tick, every next level has slots {@code wheelSize} times wider. The slots are intrusive doubly linked
+ * lists, so {@link #schedule(long, Object)} and {@link Timeout#cancel()} are O(1) regardless of the number of pending
+ * timeouts, unlike O(log n) of the heap. {@link #advance(long, Consumer)} visits every elapsed tick, fires the whole
+ * slot of the lowest level at once and, when the lower level wraps around, redistributes the next slot of the upper
+ * level. The timeout cancelled before it reaches the lowest level is never touched again.
+ * <p>
+ * The wheel never fires the timeout early and fires it at most one tick late. The deadline already passed at schedule
+ * time fires on the next tick. The time is in arbitrary units of the caller's clock, e.g. {@link System#nanoTime()},
+ * negative values are allowed. This class is not thread-safe.
+ */
+public final class TimingWheel<E> {
+    private static final int DEFAULT_WHEEL_SIZE = 64;
+
+    private final long tickDuration;
+    private final int bits;
+    private final int mask;
+    /**
+     * The heads of the slot lists per level, levels are allocated on the first use.
+     */
+    private final Timeout<E>[][] wheels;
+    /**
+     * The next tick to process, every timeout expiring before it has been fired.
+     */
+    private long tick;
+    private int size;
+
+    public TimingWheel(long tickDuration, long startTime) {
+        this(tickDuration, DEFAULT_WHEEL_SIZE, startTime);
+    }
+
+    /**
+     * @param tickDuration The resolution of the wheel in the units of the clock.
+     * @param wheelSize    The number of slots per level, power of two in {@code [2, 65536]}.
+     * @param startTime    The current time.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickDuration, int wheelSize, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration should be positive: " + tickDuration);
+        }
+        if (wheelSize < 2 || wheelSize > 1 << 16 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize should be power of two in [2, 65536]: " + wheelSize);
+        }
+
+        this.tickDuration = tickDuration;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.wheels = (Timeout<E>[][]) new Timeout<?>[(Long.SIZE + bits - 1) / bits][];
+        this.tick = Math.floorDiv(startTime, tickDuration);
+    }
+
+    public long tickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * The number of pending timeouts.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Schedules the {@code payload} to fire once the time reaches the {@code deadline}.
+     *
+     * @return The handle to cancel the timeout.
+     */
+    public Timeout<E> schedule(long deadline, E payload) {
+        Objects.requireNonNull(payload);
+        var t = new Timeout<>(this, -Math.floorDiv(-deadline, tickDuration), payload);
+        place(t);
+        size++;
+        return t;
+    }
+
+    /**
+     * Moves the time forward to {@code now} and passes the payloads of all expired timeouts to the {@code expired}
+     * consumer, tick by tick. The consumer might schedule and cancel the timeouts, the ones scheduled for the time
+     * already passed fire on the next tick.
+     *
+     * @return The number of fired timeouts.
+     */
+    public int advance(long now, Consumer<? super E> expired) {
+        Objects.requireNonNull(expired);
+        long nowTick = Math.floorDiv(now, tickDuration);
+        int fired = 0;
+        while (tick <= nowTick) {
+            if (size == 0) {
+                tick = nowTick + 1;
+                break;
+            }
+
+            long t = tick;
+            cascade(t);
+            var wheel = wheels[0];
+            int slot = (int) (t & mask);
+            var head = wheel == null ? null : wheel[slot];
+            if (wheel != null) {
+                wheel[slot] = null;
+            }
+            tick = t + 1;
+            fired += fire(head, expired);
+        }
+        return fired;
+    }
+
+    /**
+     * Moves the timeouts of the upper level slots starting at the tick {@code t} one level down. The level {@code l}
+     * is cascaded when the lower {@code l * bits} bits of the tick are zero, which is when all lower levels have wrapped
+     * around.
+     */
+    private void cascade(long t) {
+        for (int level = 1; level < wheels.length; level++) {
+            int shift = level * bits;
+            if ((t & ((1L << shift) - 1)) != 0) {
+                return;
+            }
+
+            var wheel = wheels[level];
+            if (wheel == null) {
+                continue;
+            }
+            int slot = (int) ((t >> shift) & mask);
+            var n = wheel[slot];
+            wheel[slot] = null;
+            while (n != null) {
+                var next = n.next;
+                place(n);
+                n = next;
+            }
+        }
+    }
+
+    /**
+     * Detaches the whole list first, so the consumer can cancel or schedule timeouts without breaking the iteration.
+     */
+    private int fire(Timeout<E> head, Consumer<? super E> expired) {
+        int count = 0;
+        for (var n = head; n != null; n = n.next) {
+            n.state = Timeout.FIRING;
+            count++;
+        }
+        size -= count;
+
+        int fired = 0;
+        var n = head;
+        while (n != null) {
+            var next = n.next;
+            n.prev = n.next = null;
+            if (n.state == Timeout.FIRING) {
+                n.state = Timeout.EXPIRED;
+                fired++;
+                expired.accept(n.payload);
+            }
+            n = next;
+        }
+        return fired;
+    }
+
+    /**
+     * Links the timeout into the slot of the lowest level covering its expiry tick relative to the current tick.
+     */
+    @SuppressWarnings("unchecked")
+    private void place(Timeout<E> t) {
+        long expiry = Math.max(t.expiry, tick);
+        long delta = expiry - tick;
+        int level = 0;
+        while (level < wheels.length - 1 && (delta >>> ((level + 1) * bits)) != 0) {
+            level++;
+        }
+
+        var wheel = wheels[level];
+        if (wheel == null) {
+            wheel = wheels[level] = (Timeout<E>[]) new Timeout<?>[mask + 1];
+        }
+        int slot = (int) ((expiry >> (level * bits)) & mask);
+        var head = wheel[slot];
+        t.prev = null;
+        t.next = head;
+        if (head != null) {
+            head.prev = t;
+        }
+        wheel[slot] = t;
+        t.level = level;
+        t.slot = slot;
+    }
+
+    private boolean cancel(Timeout<E> t) {
+        if (t.state == Timeout.FIRING) {
+            t.state = Timeout.CANCELLED;
+            return true;
+        }
+        if (t.state != Timeout.PENDING) {
+            return false;
+        }
+
+        var prev = t.prev;
+        var next = t.next;
+        if (prev == null) {
+            wheels[t.level][t.slot] = next;
+        } else {
+            prev.next = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        t.prev = t.next = null;
+        t.state = Timeout.CANCELLED;
+        size--;
+        return true;
+    }
+
+    /**
+     * The scheduled timeout.
+     */
+    public static final class Timeout<E> {
+        private static final int PENDING = 0;
+        private static final int FIRING = 1;
+        private static final int EXPIRED = 2;
+        private static final int CANCELLED = 3;
+
+        private final TimingWheel<E> wheel;
+        private final long expiry;
+        private final E payload;
+        private int state = PENDING;
+        private int level;
+        private int slot;
+        private Timeout<E> prev;
+        private Timeout<E> next;
+
+        private Timeout(TimingWheel<E> wheel, long expiry, E payload) {
+            this.wheel = wheel;
+            this.expiry = expiry;
+            this.payload = payload;
+        }
+
+        public E payload() {
+            return payload;
+        }
+
+        /**
+         * Cancels the timeout in O(1).
+         *
+         * @return {@code false} if the timeout has already fired or been cancelled.
+         */
+        public boolean cancel() {
+            return wheel.cancel(this);
+        }
+
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+    }
+}
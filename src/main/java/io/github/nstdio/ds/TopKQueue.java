@@ -0,0 +1,207 @@
+package io.github.nstdio.ds;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Keeps the {@code k} greatest elements, according to the comparator, of everything offered. The kept elements form
+ * the 4-ary min heap, so the root is the weakest of them: once the queue is full a candidate not greater than the root
+ * is rejected by a single comparison, and an accepted one replaces the root with one sift-down. Selecting the top
+ * {@code k} of {@code n} candidates costs O(n + m log k), where {@code m} is the number of accepted candidates, which is
+ * small for random input.
+ */
+public final class TopKQueue<E> extends AbstractCollection<E> {
+    private static final int SHIFT = 2;
+
+    private final Comparator<? super E> comparator;
+    private final Object[] heap;
+    private int size;
+
+    public TopKQueue(int k, Comparator<? super E> comparator) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k should be positive: " + k);
+        }
+
+        this.comparator = Objects.requireNonNull(comparator);
+        this.heap = new Object[k];
+    }
+
+    public static <E extends Comparable<? super E>> TopKQueue<E> naturalOrder(int k) {
+        return new TopKQueue<>(k, Comparator.naturalOrder());
+    }
+
+    public int k() {
+        return heap.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Offers the candidate.
+     *
+     * @return {@code true} if {@code e} is kept.
+     */
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        if (size < heap.length) {
+            siftUp(size++, e);
+            return true;
+        }
+
+        @SuppressWarnings("unchecked")
+        var weakest = (E) heap[0];
+        if (comparator.compare(e, weakest) <= 0) {
+            return false;
+        }
+
+        siftDown(0, e);
+        return true;
+    }
+
+    @Override
+    public boolean add(E e) {
+        return offer(e);
+    }
+
+    /**
+     * Offers all candidates of {@code c}. While the queue is not full the candidates are appended and heapified
+     * bottom-up in linear time, the rest are offered one by one.
+     *
+     * @return {@code true} if any candidate is kept.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean offerAll(Collection<? extends E> c) {
+        var a = c.toArray();
+        // checked up front, so the null candidate doesn't leave the heap half filled
+        for (var e : a) {
+            Objects.requireNonNull(e);
+        }
+
+        int i = 0;
+        if (size < heap.length) {
+            int fill = Math.min(heap.length - size, a.length);
+            for (; i < fill; i++) {
+                heap[size++] = a[i];
+            }
+            for (int p = (size - 2) >> SHIFT; p >= 0; p--) {
+                siftDown(p, heap[p]);
+            }
+        }
+
+        boolean changed = i > 0;
+        for (; i < a.length; i++) {
+            changed |= offer((E) a[i]);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+
+        return offerAll(c);
+    }
+
+    /**
+     * The weakest of the kept elements, the one a candidate has to beat once the queue is full.
+     *
+     * @return The weakest element or {@code null} if the queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E peekWeakest() {
+        return size == 0 ? null : (E) heap[0];
+    }
+
+    /**
+     * The kept elements, the greatest first.
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toSortedList() {
+        var a = (E[]) Arrays.copyOf(heap, size);
+        Arrays.sort(a, comparator.reversed());
+        return Arrays.asList(a);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * The iterator over kept elements in no particular order.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+
+                return (E) heap[cursor++];
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftUp(int k, Object e) {
+        var heap = this.heap;
+        var cmp = (Comparator<Object>) comparator;
+        while (k > 0) {
+            int parent = (k - 1) >>> SHIFT;
+            var p = heap[parent];
+            if (cmp.compare(p, e) <= 0) {
+                break;
+            }
+            heap[k] = p;
+            k = parent;
+        }
+        heap[k] = e;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void siftDown(int k, Object e) {
+        var heap = this.heap;
+        var cmp = (Comparator<Object>) comparator;
+        int n = size;
+        int lastParent = (n - 2) >> SHIFT;
+        while (k <= lastParent) {
+            int first = (k << SHIFT) + 1;
+            int end = Math.min(first + (1 << SHIFT), n);
+            int best = first;
+            var bestE = heap[first];
+            for (int c = first + 1; c < end; c++) {
+                if (cmp.compare(heap[c], bestE) < 0) {
+                    best = c;
+                    bestE = heap[c];
+                }
+            }
+            if (cmp.compare(e, bestE) <= 0) {
+                break;
+            }
+            heap[k] = bestE;
+            k = best;
+        }
+        heap[k] = e;
+    }
+}
@@ -1,18 +1,36 @@
 package io.github.nstdio.ds.list;
 
 import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
+import java.util.Spliterator;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 public final class ArrayList<E> implements List<E>, RandomAccess {
+    /**
+     * The size starting from which {@link #sort(Comparator)} sorts in parallel. Below it the fork/join overhead is not
+     * paid off, the same granularity is used by {@link Arrays#parallelSort(Object[])}.
+     */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private Object[] data;
     private int size;
+    /**
+     * The number of structural modifications, used by iterators and sub lists to fail fast.
+     */
+    private int modCount;
 
     @Override
     public int size() {
@@ -44,8 +62,10 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
         int n = size;
         @SuppressWarnings("unchecked")
         T[] ret = a.length < n ? (T[]) Array.newInstance(a.getClass().getComponentType(), n) : a;
-        //noinspection SuspiciousSystemArraycopy
-        System.arraycopy(data, 0, ret, 0, n);
+        if (n > 0) {
+            //noinspection SuspiciousSystemArraycopy
+            System.arraycopy(data, 0, ret, 0, n);
+        }
 
         return ret;
     }
@@ -55,6 +75,7 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
         growIfNecessary(1);
 
         data[size++] = e;
+        modCount++;
 
         return true;
     }
@@ -90,18 +111,31 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
     private E removeAt(int idx) {
         Object[] d = data;
         E old = (E) d[idx];
-        if (idx == size - 1) {
-            d[idx] = null;
-        } else {
-            var len = d.length - 1;
-            System.arraycopy(d, idx + 1, d, idx, len - idx);
-            d[len] = null;
+        int last = size - 1;
+        if (idx != last) {
+            System.arraycopy(d, idx + 1, d, idx, last - idx);
         }
-        size--;
+        d[last] = null;
+        size = last;
+        modCount++;
 
         return old;
     }
 
+    private void removeRange(int from, int to) {
+        if (from == to) {
+            return;
+        }
+
+        Object[] d = data;
+        int s = size;
+        System.arraycopy(d, to, d, from, s - to);
+        int newSize = s - (to - from);
+        Arrays.fill(d, newSize, s, null);
+        size = newSize;
+        modCount++;
+    }
+
     @Override
     public boolean containsAll(Collection<?> c) {
         for (Object o : c) { // implicit NPE
@@ -123,6 +157,7 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
         growIfNecessary(cSize);
 
         fastAddFrom(size, c, cSize);
+        modCount++;
         return true;
     }
 
@@ -136,17 +171,21 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
 
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
-        checkIndex(index);
+        checkPositionIndex(index);
         if (c.isEmpty()) {
             return false;
         }
 
-        var cSize = c.size();
+        insertAll(index, c, c.size());
+        return true;
+    }
+
+    private void insertAll(int index, Collection<? extends E> c, int cSize) {
         growIfNecessary(cSize);
-        System.arraycopy(data, index, data, index + cSize, index);
+        System.arraycopy(data, index, data, index + cSize, size - index);
 
         fastAddFrom(index, c, cSize);
-        return true;
+        modCount++;
     }
 
     @Override
@@ -176,9 +215,12 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
 
         boolean changed = s != j;
         while (s > j) {
-            d[s--] = null;
+            d[--s] = null;
         }
         size = s;
+        if (changed) {
+            modCount++;
+        }
         return changed;
     }
 
@@ -190,6 +232,89 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
         }
 
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Sorts the backing array in place. The lists with at least {@link #PARALLEL_SORT_THRESHOLD} elements are sorted
+     * with the fork/join parallel merge sort of {@link Arrays#parallelSort(Object[], int, int, Comparator)}, which is
+     * stable just like the sequential one.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> c) {
+        int expectedModCount = modCount;
+        int s = size;
+        if (s >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort((E[]) data, 0, s, c);
+        } else if (s > 1) {
+            Arrays.sort((E[]) data, 0, s, c);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        modCount++;
+    }
+
+    /**
+     * Removes the matching elements in a single pass, moving every survivor at most once.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int expectedModCount = modCount;
+        var d = data;
+        int s = size;
+        int i = 0;
+        while (i < s && !filter.test((E) d[i])) {
+            i++;
+        }
+        if (i == s) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return false;
+        }
+
+        int j = i++;
+        try {
+            for (; i < s; i++) {
+                var e = d[i];
+                if (!filter.test((E) e)) {
+                    d[j++] = e;
+                }
+            }
+        } finally {
+            // the predicate has thrown: the elements it hasn't seen stay in the list
+            if (i < s) {
+                System.arraycopy(d, i, d, j, s - i);
+                j += s - i;
+            }
+            Arrays.fill(d, j, s, null);
+            size = j;
+            modCount++;
+        }
+        if (modCount != expectedModCount + 1) {
+            throw new ConcurrentModificationException();
+        }
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        var d = data;
+        for (int i = 0, s = size; i < s && modCount == expectedModCount; i++) {
+            d[i] = operator.apply((E) d[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -206,6 +331,12 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
         }
     }
 
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public E set(int index, E element) {
@@ -219,13 +350,18 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
 
     @Override
     public void add(int index, E element) {
-        checkIndex(index);
+        checkPositionIndex(index);
+        insertAt(index, element);
+    }
+
+    private void insertAt(int index, E element) {
         growIfNecessary(1);
 
         var d = data;
         System.arraycopy(d, index, d, index + 1, size - index);
         size++;
         d[index] = element;
+        modCount++;
     }
 
     @Override
@@ -268,17 +404,28 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
 
     @Override
     public ListIterator<E> listIterator() {
-        return null;
+        return new ListItr(0);
     }
 
     @Override
     public ListIterator<E> listIterator(int index) {
-        return null;
+        checkPositionIndex(index);
+        return new ListItr(index);
     }
 
+    /**
+     * Returns the live view of the range. Bulk operations of the view like {@code clear}, {@code addAll} and
+     * {@code sort} are performed directly on the backing array.
+     */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return null;
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Split(0, -1, 0);
     }
 
     /**
@@ -289,21 +436,307 @@ public final class ArrayList<E> implements List<E>, RandomAccess {
     }
 
     private class It implements Iterator<E> {
-        private int idx;
+        int cursor;
+        int lastRet = -1;
+        int expectedModCount = modCount;
 
         @Override
         public boolean hasNext() {
-            return idx != size;
+            return cursor != size;
         }
 
         @Override
         public E next() {
-            if (!hasNext())
+            checkForComodification();
+            if (cursor >= size)
                 throw new NoSuchElementException();
 
+            lastRet = cursor++;
             @SuppressWarnings("unchecked")
-            E e = (E) data[idx++];
+            E e = (E) data[lastRet];
             return e;
         }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            removeAt(lastRet);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    private class ListItr extends It implements ListIterator<E> {
+        ListItr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0)
+                throw new NoSuchElementException();
+
+            cursor = lastRet = i;
+            @SuppressWarnings("unchecked")
+            E e = (E) data[i];
+            return e;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            data[lastRet] = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            insertAt(cursor++, e);
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * The late-binding spliterator: the range is fixed at first traversal or split, so the list might be modified up
+     * to that point. Splits the range in halves.
+     */
+    private final class Split implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        Split(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi;
+            if ((hi = fence) < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int mid = (lo + hi) >>> 1;
+
+            return lo >= mid ? null : new Split(lo, index = mid, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i < hi) {
+                index = i + 1;
+                @SuppressWarnings("unchecked")
+                E e = (E) data[i];
+                action.accept(e);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            var d = data;
+            for (int i = index; i < hi; i++) {
+                @SuppressWarnings("unchecked")
+                E e = (E) d[i];
+                action.accept(e);
+            }
+            index = hi;
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    private static final class SubList<E> extends AbstractList<E> implements RandomAccess {
+        private final ArrayList<E> root;
+        private final SubList<E> parent;
+        private final int offset;
+        private int size;
+
+        SubList(ArrayList<E> root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.parent = null;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
+        }
+
+        private SubList(SubList<E> parent, int fromIndex, int toIndex) {
+            this.root = parent.root;
+            this.parent = parent;
+            this.offset = parent.offset + fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = parent.modCount;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            @SuppressWarnings("unchecked")
+            E e = (E) root.data[offset + index];
+            return e;
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            var d = root.data;
+            @SuppressWarnings("unchecked")
+            E old = (E) d[offset + index];
+            d[offset + index] = element;
+            return old;
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkPositionIndex(index);
+            checkForComodification();
+
+            root.insertAt(offset + index, element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            E old = root.removeAt(offset + index);
+            updateSizeAndModCount(-1);
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+
+            root.removeRange(offset + fromIndex, offset + toIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> c) {
+            return addAll(size, c);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            checkPositionIndex(index);
+            int cSize = c.size();
+            if (cSize == 0) {
+                return false;
+            }
+            checkForComodification();
+
+            root.insertAll(offset + index, c, cSize);
+            updateSizeAndModCount(cSize);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sort(Comparator<? super E> c) {
+            checkForComodification();
+
+            if (size > 1) {
+                Arrays.sort((E[]) root.data, offset, offset + size, c);
+            }
+            root.modCount++;
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public List<E> subList(int fromIndex, int toIndex) {
+            Objects.checkFromToIndex(fromIndex, toIndex, size);
+            return new SubList<>(this, fromIndex, toIndex);
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        private void checkForComodification() {
+            if (root.modCount != modCount)
+                throw new ConcurrentModificationException();
+        }
+
+        private void updateSizeAndModCount(int delta) {
+            var s = this;
+            do {
+                s.size += delta;
+                s.modCount = root.modCount;
+                s = s.parent;
+            } while (s != null);
+        }
     }
 }
@@ -0,0 +1,212 @@
+package io.github.nstdio.ds.list;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The growable list with {@code long} indexes, so it might hold more than {@code Integer.MAX_VALUE} elements. Elements
+ * are stored in fixed-size segments: growth allocates a new segment and never copies existing elements, only the array
+ * of segment references is reallocated. Segments hold 16K references, that keeps every allocation well below G1
+ * humongous object threshold.
+ */
+public final class BigArrayList<E> implements Iterable<E> {
+    private static final int DEFAULT_SEGMENT_SHIFT = 14;
+    private static final Object[][] EMPTY = {};
+
+    private final int shift;
+    private final int mask;
+    private Object[][] segments = EMPTY;
+    private long size;
+
+    public BigArrayList() {
+        this(DEFAULT_SEGMENT_SHIFT);
+    }
+
+    BigArrayList(int segmentShift) {
+        if (segmentShift < 1 || segmentShift > 30) {
+            throw new IllegalArgumentException("segmentShift should be in [1, 30]: " + segmentShift);
+        }
+
+        shift = segmentShift;
+        mask = (1 << segmentShift) - 1;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean add(E e) {
+        long s = size;
+        int seg = (int) (s >>> shift);
+        int off = (int) s & mask;
+        if (off == 0) {
+            growIfNecessary(seg);
+        }
+
+        segments[seg][off] = e;
+        size = s + 1;
+
+        return true;
+    }
+
+    public boolean addAll(Collection<? extends E> c) {
+        if (c.isEmpty()) { // implicit NPE
+            return false;
+        }
+
+        for (E e : c) {
+            add(e);
+        }
+        return true;
+    }
+
+    private void growIfNecessary(int seg) {
+        var ss = segments;
+        if (seg == ss.length) {
+            if (seg == Integer.MAX_VALUE) {
+                throw new IllegalStateException("List is full");
+            }
+
+            var newLen = (int) Math.min(Math.max(8, seg * 2L), Integer.MAX_VALUE);
+            var newSegments = new Object[newLen][];
+            System.arraycopy(ss, 0, newSegments, 0, seg);
+            segments = ss = newSegments;
+        }
+
+        if (ss[seg] == null) {
+            ss[seg] = new Object[mask + 1];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long index) {
+        checkIndex(index);
+
+        return (E) segments[(int) (index >>> shift)][(int) index & mask];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E set(long index, E element) {
+        checkIndex(index);
+        var segment = segments[(int) (index >>> shift)];
+        int off = (int) index & mask;
+        Object old = segment[off];
+        segment[off] = element;
+
+        return (E) old;
+    }
+
+    /**
+     * Removes the last element. The segment becoming empty is released.
+     *
+     * @return The removed element.
+     *
+     * @throws NoSuchElementException when list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public E removeLast() {
+        long s = size - 1;
+        if (s < 0) {
+            throw new NoSuchElementException();
+        }
+
+        int seg = (int) (s >>> shift);
+        int off = (int) s & mask;
+        var segment = segments[seg];
+        E old = (E) segment[off];
+        if (off == 0) {
+            segments[seg] = null;
+        } else {
+            segment[off] = null;
+        }
+        size = s;
+
+        return old;
+    }
+
+    public long indexOf(Object o) {
+        var ss = segments;
+        long remaining = size;
+        for (int seg = 0; remaining > 0; seg++) {
+            var segment = ss[seg];
+            int n = (int) Math.min(remaining, segment.length);
+            for (int i = 0; i < n; i++) {
+                if (Objects.equals(segment[i], o)) {
+                    return ((long) seg << shift) + i;
+                }
+            }
+            remaining -= n;
+        }
+
+        return -1;
+    }
+
+    public boolean contains(Object o) {
+        return indexOf(o) > -1;
+    }
+
+    public void clear() {
+        segments = EMPTY;
+        size = 0;
+    }
+
+    private void checkIndex(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        var ss = segments;
+        long remaining = size;
+        for (int seg = 0; remaining > 0; seg++) {
+            var segment = ss[seg];
+            int n = (int) Math.min(remaining, segment.length);
+            for (int i = 0; i < n; i++) {
+                action.accept((E) segment[i]);
+            }
+            remaining -= n;
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new It();
+    }
+
+    private class It implements Iterator<E> {
+        private long idx;
+        private Object[] segment;
+
+        @Override
+        public boolean hasNext() {
+            return idx < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            int off = (int) idx & mask;
+            if (off == 0 || segment == null) {
+                segment = segments[(int) (idx >>> shift)];
+            }
+            idx++;
+
+            @SuppressWarnings("unchecked")
+            E e = (E) segment[off];
+            return e;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.nstdio.ds.list;
+
+import java.util.Arrays;
+
+/**
+ * The growable list of {@code double} values. Unlike {@code ArrayList<Double>} elements are stored unboxed in
+ * {@code double[]}, so every element costs exactly 8 bytes. Use {@link #asList()} to pass the values where
+ * {@code List<Double>} is expected.
+ * <p>
+ * Elements are compared by {@link Double#doubleToLongBits(double)} rather than with {@code ==}, the same way
+ * {@link Double#equals(Object)} does: {@code NaN} is equal to itself and can be found, while {@code -0.0} and
+ * {@code 0.0} are different elements. This keeps {@link #indexOf(double)} consistent with {@code asList().indexOf}.
+ */
+public final class DoubleArrayList extends PrimitiveArrayList<double[], Double> {
+    @Override
+    double[] newArray(int length) {
+        return new double[length];
+    }
+
+    @Override
+    int length(double[] a) {
+        return a.length;
+    }
+
+    public void addDouble(double e) {
+        growIfNecessary(1);
+
+        data[size++] = e;
+    }
+
+    public void addDouble(int index, double e) {
+        openGap(index);
+
+        data[index] = e;
+    }
+
+    public void addAll(double[] a) {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(double[] a, int off, int len) {
+        addAllFrom(a, off, len);
+    }
+
+    public double getDouble(int index) {
+        checkIndex(index);
+
+        return data[index];
+    }
+
+    public double setDouble(int index, double e) {
+        checkIndex(index);
+        var d = data;
+        double old = d[index];
+        d[index] = e;
+
+        return old;
+    }
+
+    public double removeDoubleAt(int index) {
+        checkIndex(index);
+        double old = data[index];
+        closeGap(index);
+
+        return old;
+    }
+
+    /**
+     * Finds the element with the same semantics as {@link Double#equals(Object)}, so {@code NaN} can be found and
+     * {@code -0.0} differs from {@code 0.0}.
+     */
+    public int indexOf(double e) {
+        long bits = Double.doubleToLongBits(e);
+        var d = data;
+        for (int i = 0, n = size; i < n; i++) {
+            if (Double.doubleToLongBits(d[i]) == bits) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(double e) {
+        return indexOf(e) > -1;
+    }
+
+    /**
+     * Sorts the elements into ascending order as defined by {@link Double#compare(double, double)}.
+     */
+    public void sort() {
+        if (size > 1) {
+            Arrays.sort(data, 0, size);
+        }
+    }
+
+    /**
+     * Searches the list with binary search. The list must be sorted, e.g. by {@link #sort()}.
+     *
+     * @return The index of the {@code key} or {@code -(insertion point) - 1} when there is no such key.
+     *
+     * @see Arrays#binarySearch(double[], int, int, double)
+     */
+    public int binarySearch(double key) {
+        if (size == 0) {
+            return -1;
+        }
+
+        return Arrays.binarySearch(data, 0, size, key);
+    }
+
+    public double[] toDoubleArray() {
+        return copy();
+    }
+
+    @Override
+    Double getBoxed(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    Double setBoxed(int index, Double e) {
+        return setDouble(index, e);
+    }
+
+    @Override
+    void addBoxed(int index, Double e) {
+        addDouble(index, e);
+    }
+
+    @Override
+    Double removeBoxed(int index) {
+        return removeDoubleAt(index);
+    }
+
+    @Override
+    int indexOfBoxed(Object o) {
+        return o instanceof Double ? indexOf((Double) o) : -1;
+    }
+}
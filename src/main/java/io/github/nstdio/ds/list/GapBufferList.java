@@ -0,0 +1,163 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * The array list with the free space kept in the middle of the array, at the position of the last edit, instead of at
+ * the end. An insertion or removal at the gap is O(1), moving the gap by {@code d} positions costs {@code d} element
+ * moves. So the edits clustered around the moving cursor, the typical editor workload, never shift the whole tail of
+ * the list, while random access stays O(1).
+ */
+public final class GapBufferList<E> extends AbstractList<E> implements RandomAccess {
+    private static final Object[] EMPTY = {};
+
+    private Object[] buf = EMPTY;
+    private int gapStart;
+    private int gapEnd;
+
+    private int gapLength() {
+        return gapEnd - gapStart;
+    }
+
+    @Override
+    public int size() {
+        return buf.length - gapLength();
+    }
+
+    private int physicalIndex(int index) {
+        return index < gapStart ? index : index + gapLength();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        return (E) buf[physicalIndex(index)];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int i = physicalIndex(index);
+        E old = (E) buf[i];
+        buf[i] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(E e) {
+        add(size(), e);
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        moveGap(index);
+        ensureGap(1);
+
+        buf[gapStart++] = element;
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+        var a = c.toArray();
+        if (a.length == 0) {
+            return false;
+        }
+
+        moveGap(index);
+        ensureGap(a.length);
+        System.arraycopy(a, 0, buf, gapStart, a.length);
+        gapStart += a.length;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        moveGap(index);
+
+        E old = (E) buf[gapEnd];
+        buf[gapEnd++] = null;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        moveGap(fromIndex);
+        int n = toIndex - fromIndex;
+        Arrays.fill(buf, gapEnd, gapEnd + n, null);
+        gapEnd += n;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        buf = EMPTY;
+        gapStart = gapEnd = 0;
+        modCount++;
+    }
+
+    /**
+     * Moves the gap so it starts at {@code index}, shifting only the elements between the old and the new position.
+     */
+    private void moveGap(int index) {
+        var b = buf;
+        if (index < gapStart) {
+            int n = gapStart - index;
+            System.arraycopy(b, index, b, gapEnd - n, n);
+            Arrays.fill(b, index, Math.min(gapStart, gapEnd - n), null);
+            gapStart = index;
+            gapEnd -= n;
+        } else if (index > gapStart) {
+            int n = index - gapStart;
+            System.arraycopy(b, gapEnd, b, gapStart, n);
+            Arrays.fill(b, Math.max(gapEnd, index), gapEnd + n, null);
+            gapStart = index;
+            gapEnd += n;
+        }
+    }
+
+    private void ensureGap(int n) {
+        if (gapLength() >= n) {
+            return;
+        }
+
+        var b = buf;
+        int size = size();
+        int newLen = Math.max(Math.max(8, b.length * 2), size + n);
+        var newBuf = new Object[newLen];
+        int after = b.length - gapEnd;
+        System.arraycopy(b, 0, newBuf, 0, gapStart);
+        System.arraycopy(b, gapEnd, newBuf, newLen - after, after);
+        buf = newBuf;
+        gapEnd = newLen - after;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.nstdio.ds.list;
+
+import java.util.Arrays;
+
+/**
+ * The growable list of {@code int} values. Unlike {@code ArrayList<Integer>} elements are stored unboxed in
+ * {@code int[]}, so every element costs exactly 4 bytes. Use {@link #asList()} to pass the values where
+ * {@code List<Integer>} is expected.
+ */
+public final class IntArrayList extends PrimitiveArrayList<int[], Integer> {
+    @Override
+    int[] newArray(int length) {
+        return new int[length];
+    }
+
+    @Override
+    int length(int[] a) {
+        return a.length;
+    }
+
+    public void addInt(int e) {
+        growIfNecessary(1);
+
+        data[size++] = e;
+    }
+
+    public void addInt(int index, int e) {
+        openGap(index);
+
+        data[index] = e;
+    }
+
+    public void addAll(int[] a) {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(int[] a, int off, int len) {
+        addAllFrom(a, off, len);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index);
+
+        return data[index];
+    }
+
+    public int setInt(int index, int e) {
+        checkIndex(index);
+        var d = data;
+        int old = d[index];
+        d[index] = e;
+
+        return old;
+    }
+
+    public int removeIntAt(int index) {
+        checkIndex(index);
+        int old = data[index];
+        closeGap(index);
+
+        return old;
+    }
+
+    public int indexOf(int e) {
+        var d = data;
+        for (int i = 0, n = size; i < n; i++) {
+            if (d[i] == e) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(int e) {
+        return indexOf(e) > -1;
+    }
+
+    /**
+     * Sorts the elements into ascending order.
+     */
+    public void sort() {
+        if (size > 1) {
+            Arrays.sort(data, 0, size);
+        }
+    }
+
+    /**
+     * Searches the list with binary search. The list must be sorted, e.g. by {@link #sort()}.
+     *
+     * @return The index of the {@code key} or {@code -(insertion point) - 1} when there is no such key.
+     *
+     * @see Arrays#binarySearch(int[], int, int, int)
+     */
+    public int binarySearch(int key) {
+        if (size == 0) {
+            return -1;
+        }
+
+        return Arrays.binarySearch(data, 0, size, key);
+    }
+
+    public int[] toIntArray() {
+        return copy();
+    }
+
+    @Override
+    Integer getBoxed(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    Integer setBoxed(int index, Integer e) {
+        return setInt(index, e);
+    }
+
+    @Override
+    void addBoxed(int index, Integer e) {
+        addInt(index, e);
+    }
+
+    @Override
+    Integer removeBoxed(int index) {
+        return removeIntAt(index);
+    }
+
+    @Override
+    int indexOfBoxed(Object o) {
+        return o instanceof Integer ? indexOf((Integer) o) : -1;
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.nstdio.ds.list;
+
+import java.util.Arrays;
+
+/**
+ * The growable list of {@code long} values. Unlike {@code ArrayList<Long>} elements are stored unboxed in
+ * {@code long[]}, so every element costs exactly 8 bytes. Use {@link #asList()} to pass the values where
+ * {@code List<Long>} is expected.
+ */
+public final class LongArrayList extends PrimitiveArrayList<long[], Long> {
+    @Override
+    long[] newArray(int length) {
+        return new long[length];
+    }
+
+    @Override
+    int length(long[] a) {
+        return a.length;
+    }
+
+    public void addLong(long e) {
+        growIfNecessary(1);
+
+        data[size++] = e;
+    }
+
+    public void addLong(int index, long e) {
+        openGap(index);
+
+        data[index] = e;
+    }
+
+    public void addAll(long[] a) {
+        addAll(a, 0, a.length);
+    }
+
+    public void addAll(long[] a, int off, int len) {
+        addAllFrom(a, off, len);
+    }
+
+    public long getLong(int index) {
+        checkIndex(index);
+
+        return data[index];
+    }
+
+    public long setLong(int index, long e) {
+        checkIndex(index);
+        var d = data;
+        long old = d[index];
+        d[index] = e;
+
+        return old;
+    }
+
+    public long removeLongAt(int index) {
+        checkIndex(index);
+        long old = data[index];
+        closeGap(index);
+
+        return old;
+    }
+
+    public int indexOf(long e) {
+        var d = data;
+        for (int i = 0, n = size; i < n; i++) {
+            if (d[i] == e) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public boolean contains(long e) {
+        return indexOf(e) > -1;
+    }
+
+    /**
+     * Sorts the elements into ascending order.
+     */
+    public void sort() {
+        if (size > 1) {
+            Arrays.sort(data, 0, size);
+        }
+    }
+
+    /**
+     * Searches the list with binary search. The list must be sorted, e.g. by {@link #sort()}.
+     *
+     * @return The index of the {@code key} or {@code -(insertion point) - 1} when there is no such key.
+     *
+     * @see Arrays#binarySearch(long[], int, int, long)
+     */
+    public int binarySearch(long key) {
+        if (size == 0) {
+            return -1;
+        }
+
+        return Arrays.binarySearch(data, 0, size, key);
+    }
+
+    public long[] toLongArray() {
+        return copy();
+    }
+
+    @Override
+    Long getBoxed(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    Long setBoxed(int index, Long e) {
+        return setLong(index, e);
+    }
+
+    @Override
+    void addBoxed(int index, Long e) {
+        addLong(index, e);
+    }
+
+    @Override
+    Long removeBoxed(int index) {
+        return removeLongAt(index);
+    }
+
+    @Override
+    int indexOfBoxed(Object o) {
+        return o instanceof Long ? indexOf((Long) o) : -1;
+    }
+}
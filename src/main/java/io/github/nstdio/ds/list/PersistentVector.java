@@ -0,0 +1,771 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The immutable list sharing structure between versions. Elements are stored in the leaves of the 32-way trie, with
+ * the last up to 32 elements kept aside in the tail array. {@link #append(Object)} usually copies the tail only, while
+ * {@link #with(int, Object)} copies a single root to leaf path, that is at most {@code log32(n)} arrays of 32 elements.
+ * Every other node is shared with the previous version, so the old and the new vector might be used from different
+ * threads without any synchronization.
+ * <p>
+ * The trie is relaxed radix balanced (RRB): the node whose children are not full keeps the table of cumulative
+ * children sizes, and the index lookup in it goes through the table instead of the index bits. This lets
+ * {@link #concat(Collection)} and {@link #slice(int, int)} rebuild only the nodes along the edges they cut or join and
+ * share the rest. The vectors built by appending have no relaxed nodes and are looked up by the index bits only.
+ * <p>
+ * For bulk construction use the {@link Builder}: it mutates the nodes it owns in place and turns into the persistent
+ * vector in O(1) on {@link Builder#build()}.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    /**
+     * The number of nodes above the optimum tolerated by the concatenation before it redistributes the children.
+     */
+    private static final int EXTRAS = 2;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    /**
+     * The last elements, not empty unless the vector is.
+     */
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Creates the vector dropping the empty root or the roots with a single child.
+     */
+    private static <E> PersistentVector<E> trimmed(int size, int shift, Node root, Object[] tail) {
+        if (root == null) {
+            return new PersistentVector<>(size, BITS, EMPTY_NODE, tail);
+        }
+        while (shift > BITS && root.array[1] == null) {
+            root = (Node) root.array[0];
+            shift -= BITS;
+        }
+
+        return new PersistentVector<>(size, shift, root, tail);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    @SafeVarargs
+    public static <E> PersistentVector<E> of(E... elements) {
+        return PersistentVector.<E>builder().addAll(Arrays.asList(elements)).build();
+    }
+
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> c) {
+        if (c instanceof PersistentVector) {
+            @SuppressWarnings("unchecked")
+            var v = (PersistentVector<E>) c;
+            return v;
+        }
+
+        return PersistentVector.<E>builder().addAll(c).build();
+    }
+
+    public static <E> Builder<E> builder() {
+        return new Builder<>(empty());
+    }
+
+    /**
+     * The builder starting with the elements of this vector. This vector stays unchanged.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int tailOffset() {
+        return size - tail.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        int tailOffset = tailOffset();
+        if (index >= tailOffset) {
+            return (E) tail[index - tailOffset];
+        }
+
+        return (E) lookup(root, shift, index);
+    }
+
+    /**
+     * Creates the vector with {@code e} appended.
+     */
+    public PersistentVector<E> append(E e) {
+        if (tail.length < WIDTH) {
+            var newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = e;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        var tailNode = new Node(null, tail);
+        int newShift = shift;
+        var newRoot = pushLeaf(null, shift, root, tailNode);
+        if (newRoot == null) {
+            newRoot = grow(null, shift, root, tailNode);
+            newShift += BITS;
+        }
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{e});
+    }
+
+    /**
+     * Creates the vector with the element at {@code index} replaced by {@code e}.
+     */
+    public PersistentVector<E> with(int index, E e) {
+        Objects.checkIndex(index, size);
+
+        int tailOffset = tailOffset();
+        if (index >= tailOffset) {
+            var newTail = tail.clone();
+            newTail[index - tailOffset] = e;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+
+        return new PersistentVector<>(size, shift, assoc(null, shift, root, index, e), tail);
+    }
+
+    /**
+     * Creates the vector without the last element.
+     *
+     * @throws NoSuchElementException when vector is empty.
+     */
+    public PersistentVector<E> removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+
+        if (tail.length > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        var newTail = lastLeaf(shift, root).array;
+        return trimmed(size - 1, shift, popLeaf(shift, root, newTail.length), newTail);
+    }
+
+    /**
+     * Creates the vector with the elements of {@code other} appended. The nodes of this vector are shared. When
+     * {@code other} is the persistent vector longer than the tail, the trees are joined and only the nodes along the
+     * join are rebuilt, otherwise the elements of {@code other} are copied.
+     */
+    public PersistentVector<E> concat(Collection<? extends E> other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return copyOf(other);
+        }
+        if (!(other instanceof PersistentVector) || other.size() <= WIDTH) {
+            return toBuilder().addAll(other).build();
+        }
+
+        var right = (PersistentVector<?>) other;
+        var tailNode = new Node(null, tail);
+        int leftShift = shift;
+        var left = pushLeaf(null, shift, root, tailNode);
+        if (left == null) {
+            left = grow(null, shift, root, tailNode);
+            leftShift += BITS;
+        }
+
+        var merged = merge(left, leftShift, right.root, right.shift);
+        return trimmed(size + right.size, Math.max(leftShift, right.shift) + BITS, merged, right.tail);
+    }
+
+    /**
+     * Creates the vector with the elements in {@code [from, to)} range. The nodes inside the range are shared, only
+     * the nodes along its edges are copied.
+     */
+    public PersistentVector<E> slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == 0 && to == size) {
+            return this;
+        }
+        if (from == to) {
+            return empty();
+        }
+
+        int tailOffset = tailOffset();
+        if (from >= tailOffset) {
+            return new PersistentVector<>(to - from, BITS, EMPTY_NODE,
+                    Arrays.copyOfRange(tail, from - tailOffset, to - tailOffset));
+        }
+
+        var newRoot = root;
+        if (to < tailOffset) {
+            newRoot = sliceRight(shift, newRoot, to);
+        }
+        newRoot = sliceLeft(shift, newRoot, from);
+
+        Object[] newTail;
+        if (to > tailOffset) {
+            newTail = to == size ? tail : Arrays.copyOf(tail, to - tailOffset);
+        } else {
+            newTail = lastLeaf(shift, newRoot).array;
+            newRoot = popLeaf(shift, newRoot, newTail.length);
+        }
+
+        return trimmed(to - from, shift, newRoot, newTail);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] array;
+            private int base;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= size)
+                    throw new NoSuchElementException();
+
+                if (array == null || cursor - base == array.length) {
+                    seek();
+                }
+                return (E) array[cursor++ - base];
+            }
+
+            private void seek() {
+                int tailOffset = tailOffset();
+                if (cursor >= tailOffset) {
+                    array = tail;
+                    base = tailOffset;
+                    return;
+                }
+
+                var node = root;
+                int index = cursor;
+                for (int level = shift; level > 0; level -= BITS) {
+                    int sub = slot(node, level, index);
+                    index -= offset(node, level, sub);
+                    node = (Node) node.array[sub];
+                }
+                array = node.array;
+                base = cursor - index;
+            }
+        };
+    }
+
+    /**
+     * The depth of the trie below the root, used by tests.
+     */
+    int depth() {
+        return shift / BITS;
+    }
+
+    /**
+     * The number of children of the inner node, they are always packed to the start of the array.
+     */
+    private static int slots(Node node) {
+        var array = node.array;
+        int lo = 0;
+        int hi = array.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (array[mid] == null) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+
+        return lo;
+    }
+
+    /**
+     * The number of elements in the subtree of {@code node}. It is read from the size table of the relaxed node and
+     * computed along the rightmost path of the balanced one.
+     */
+    private static int sizeOf(Node node, int level) {
+        if (level == 0) {
+            return node.array.length;
+        }
+
+        int last = slots(node) - 1;
+        if (node.sizes != null) {
+            return node.sizes[last];
+        }
+        return (last << level) + sizeOf((Node) node.array[last], level - BITS);
+    }
+
+    /**
+     * The child of {@code node} holding the element at {@code index} relative to the start of the node. The index bits
+     * give the child of the balanced node, and the first candidate in the size table of the relaxed one, since no
+     * child holds more elements than in the balanced node.
+     */
+    private static int slot(Node node, int level, int index) {
+        int sub = (index >>> level) & MASK;
+        var sizes = node.sizes;
+        if (sizes != null) {
+            while (sizes[sub] <= index) {
+                sub++;
+            }
+        }
+
+        return sub;
+    }
+
+    /**
+     * The number of elements in the children of {@code node} before {@code sub}.
+     */
+    private static int offset(Node node, int level, int sub) {
+        if (sub == 0) {
+            return 0;
+        }
+        return node.sizes == null ? sub << level : node.sizes[sub - 1];
+    }
+
+    private static Object lookup(Node node, int level, int index) {
+        for (; level > 0; level -= BITS) {
+            int sub = slot(node, level, index);
+            index -= offset(node, level, sub);
+            node = (Node) node.array[sub];
+        }
+
+        return node.array[index];
+    }
+
+    private static Node lastLeaf(int level, Node node) {
+        for (; level > 0; level -= BITS) {
+            node = (Node) node.array[slots(node) - 1];
+        }
+
+        return node;
+    }
+
+    /**
+     * Creates the inner node with {@code array} children. The node is balanced when all the children but the last
+     * one are full, otherwise it keeps the size table.
+     */
+    private static Node branch(Object edit, int level, Object[] array) {
+        int n = 0;
+        while (n < WIDTH && array[n] != null) {
+            n++;
+        }
+
+        var sizes = new int[WIDTH];
+        boolean balanced = true;
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            int s = sizeOf((Node) array[i], level - BITS);
+            total += s;
+            sizes[i] = total;
+            balanced &= i == n - 1 || s == 1L << level;
+        }
+
+        return new Node(edit, array, balanced ? null : sizes);
+    }
+
+    private static Node newPath(Object edit, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        var ret = new Node(edit, new Object[WIDTH]);
+        ret.array[0] = newPath(edit, level - BITS, node);
+        return ret;
+    }
+
+    /**
+     * Links {@code leaf} after the last leaf of the tree. The nodes owned by {@code edit} are updated in place, others
+     * are copied.
+     *
+     * @return The new node or {@code null} if the subtree of {@code node} has no free slots on the rightmost path.
+     */
+    private static Node pushLeaf(Object edit, int level, Node node, Node leaf) {
+        int n = slots(node);
+        if (level > BITS && n > 0) {
+            var pushed = pushLeaf(edit, level - BITS, (Node) node.array[n - 1], leaf);
+            if (pushed != null) {
+                var ret = node.editable(edit);
+                ret.array[n - 1] = pushed;
+                if (ret.sizes != null) {
+                    ret.sizes[n - 1] += leaf.array.length;
+                }
+                return ret;
+            }
+        }
+        if (n == WIDTH) {
+            return null;
+        }
+
+        var child = newPath(edit, level - BITS, leaf);
+
+        if (node.sizes == null && n > 0 && sizeOf((Node) node.array[n - 1], level - BITS) != 1 << level) {
+            // the last child stops being the last one, while it is not full
+            var array = node.array.clone();
+            array[n] = child;
+            return branch(edit, level, array);
+        }
+
+        var ret = node.editable(edit);
+        ret.array[n] = child;
+        if (ret.sizes != null) {
+            ret.sizes[n] = ret.sizes[n - 1] + leaf.array.length;
+        }
+        return ret;
+    }
+
+    /**
+     * Creates the root one level above {@code root} with {@code leaf} in the second child.
+     */
+    private static Node grow(Object edit, int level, Node root, Node leaf) {
+        var array = new Object[WIDTH];
+        array[0] = root;
+        array[1] = newPath(edit, level, leaf);
+        return branch(edit, level + BITS, array);
+    }
+
+    /**
+     * Copies the rightmost path without the last leaf holding {@code removed} elements.
+     *
+     * @return The new node or {@code null} if it has no elements left.
+     */
+    private static Node popLeaf(int level, Node node, int removed) {
+        int last = slots(node) - 1;
+        Node child = level == BITS ? null : popLeaf(level - BITS, (Node) node.array[last], removed);
+        if (child == null && last == 0) {
+            return null;
+        }
+
+        var ret = node.editable(null);
+        ret.array[last] = child;
+        if (ret.sizes != null) {
+            ret.sizes[last] = child == null ? 0 : ret.sizes[last] - removed;
+        }
+        return ret;
+    }
+
+    private static Node assoc(Object edit, int level, Node node, int index, Object e) {
+        var ret = node.editable(edit);
+        if (level == 0) {
+            ret.array[index] = e;
+        } else {
+            int sub = slot(node, level, index);
+            ret.array[sub] = assoc(edit, level - BITS, (Node) node.array[sub], index - offset(node, level, sub), e);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Keeps the first {@code to} elements of the subtree, copying the rightmost path of what is left.
+     */
+    private static Node sliceRight(int level, Node node, int to) {
+        if (level == 0) {
+            return to == node.array.length ? node : new Node(null, Arrays.copyOf(node.array, to));
+        }
+
+        int sub = slot(node, level, to - 1);
+        var array = new Object[WIDTH];
+        System.arraycopy(node.array, 0, array, 0, sub);
+        array[sub] = sliceRight(level - BITS, (Node) node.array[sub], to - offset(node, level, sub));
+
+        // the prefix of the balanced node is balanced too
+        int[] sizes = null;
+        if (node.sizes != null) {
+            sizes = new int[WIDTH];
+            System.arraycopy(node.sizes, 0, sizes, 0, sub);
+            sizes[sub] = to;
+        }
+        return new Node(null, array, sizes);
+    }
+
+    /**
+     * Drops the first {@code from} elements of the subtree, copying the leftmost path of what is left.
+     */
+    private static Node sliceLeft(int level, Node node, int from) {
+        if (from == 0) {
+            return node;
+        }
+        if (level == 0) {
+            return new Node(null, Arrays.copyOfRange(node.array, from, node.array.length));
+        }
+
+        int sub = slot(node, level, from);
+        var array = new Object[WIDTH];
+        array[0] = sliceLeft(level - BITS, (Node) node.array[sub], from - offset(node, level, sub));
+        System.arraycopy(node.array, sub + 1, array, 1, slots(node) - sub - 1);
+        return branch(null, level, array);
+    }
+
+    /**
+     * Joins the rightmost path of {@code left} with the leftmost path of {@code right}, going down to the leaves and
+     * redistributing the children of the nodes along the join on the way up.
+     *
+     * @return The node one level above the higher of both, holding one or two children.
+     */
+    private static Node merge(Node left, int leftLevel, Node right, int rightLevel) {
+        if (leftLevel > rightLevel) {
+            var mid = merge((Node) left.array[slots(left) - 1], leftLevel - BITS, right, rightLevel);
+            return rebalance(left, mid, null, leftLevel);
+        }
+        if (leftLevel < rightLevel) {
+            var mid = merge(left, leftLevel, (Node) right.array[0], rightLevel - BITS);
+            return rebalance(null, mid, right, rightLevel);
+        }
+        if (leftLevel == 0) {
+            var array = new Object[WIDTH];
+            array[0] = left;
+            array[1] = right;
+            return branch(null, BITS, array);
+        }
+
+        var mid = merge((Node) left.array[slots(left) - 1], leftLevel - BITS, (Node) right.array[0], rightLevel - BITS);
+        return rebalance(left, mid, right, leftLevel);
+    }
+
+    /**
+     * Redistributes the children of {@code left} without the last one, {@code mid} and {@code right} without the
+     * first one. The nodes with fewer than {@code WIDTH - 1} slots are filled from the following ones until the number
+     * of nodes is at most {@link #EXTRAS} above the optimum, which keeps the linear search in the size tables short.
+     * The nodes that don't change are shared.
+     *
+     * @return The node one level above {@code level}, holding one or two children.
+     */
+    private static Node rebalance(Node left, Node mid, Node right, int level) {
+        int childLevel = level - BITS;
+        var all = new Node[3 * WIDTH];
+        int n = 0;
+        if (left != null) {
+            for (int i = 0, end = slots(left) - 1; i < end; i++) {
+                all[n++] = (Node) left.array[i];
+            }
+        }
+        for (int i = 0, end = slots(mid); i < end; i++) {
+            all[n++] = (Node) mid.array[i];
+        }
+        if (right != null) {
+            for (int i = 1, end = slots(right); i < end; i++) {
+                all[n++] = (Node) right.array[i];
+            }
+        }
+
+        var counts = new int[n];
+        int total = 0;
+        for (int i = 0; i < n; i++) {
+            counts[i] = childLevel == 0 ? all[i].array.length : slots(all[i]);
+            total += counts[i];
+        }
+
+        int optimal = (total + WIDTH - 1) >> BITS;
+        int len = n;
+        for (int i = 0; len > optimal + EXTRAS; len--, i--) {
+            while (counts[i] >= WIDTH - 1) {
+                i++;
+            }
+
+            // the slots of the node i are poured into the following nodes until one of them takes all the rest
+            int r = counts[i];
+            do {
+                int fill = Math.min(r + counts[i + 1], WIDTH);
+                counts[i] = fill;
+                r += counts[i + 1] - fill;
+                i++;
+            } while (r > 0);
+            System.arraycopy(counts, i + 1, counts, i, len - i - 1);
+        }
+
+        var nodes = new Object[2 * WIDTH];
+        int idx = 0;
+        int off = 0;
+        for (int k = 0; k < len; k++) {
+            var src = all[idx];
+            int count = counts[k];
+            if (off == 0 && count == (childLevel == 0 ? src.array.length : slots(src))) {
+                nodes[k] = src;
+                idx++;
+                continue;
+            }
+
+            var array = new Object[childLevel == 0 ? count : WIDTH];
+            for (int fill = 0; fill < count; ) {
+                src = all[idx];
+                int srcCount = childLevel == 0 ? src.array.length : slots(src);
+                int m = Math.min(count - fill, srcCount - off);
+                System.arraycopy(src.array, off, array, fill, m);
+                fill += m;
+                off += m;
+                if (off == srcCount) {
+                    idx++;
+                    off = 0;
+                }
+            }
+            nodes[k] = childLevel == 0 ? new Node(null, array) : branch(null, childLevel, array);
+        }
+
+        var top = new Object[WIDTH];
+        top[0] = branch(null, level, Arrays.copyOf(nodes, WIDTH));
+        if (len > WIDTH) {
+            top[1] = branch(null, level, Arrays.copyOfRange(nodes, WIDTH, 2 * WIDTH));
+        }
+        return branch(null, level + BITS, top);
+    }
+
+    private static final class Node {
+        /**
+         * The builder owning this node, {@code null} for the nodes of persistent vectors.
+         */
+        final Object edit;
+        /**
+         * The children of the inner node, packed to the start, or the elements of the leaf.
+         */
+        final Object[] array;
+        /**
+         * The cumulative sizes of the children of the relaxed node, {@code null} for the balanced and the leaf nodes.
+         */
+        final int[] sizes;
+
+        Node(Object edit, Object[] array) {
+            this(edit, array, null);
+        }
+
+        Node(Object edit, Object[] array, int[] sizes) {
+            this.edit = edit;
+            this.array = array;
+            this.sizes = sizes;
+        }
+
+        Node editable(Object edit) {
+            return edit != null && this.edit == edit
+                    ? this
+                    : new Node(edit, array.clone(), sizes == null ? null : sizes.clone());
+        }
+    }
+
+    /**
+     * The mutable builder of {@link PersistentVector}. The nodes created by the builder are updated in place, the
+     * nodes shared with the source vector are copied on the first write. The builder can't be used after
+     * {@link #build()}.
+     */
+    public static final class Builder<E> {
+        private Object edit = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+        private int tailSize;
+
+        private Builder(PersistentVector<E> v) {
+            size = v.size;
+            shift = v.shift;
+            root = v.root.editable(edit);
+            tail = Arrays.copyOf(v.tail, WIDTH);
+            tailSize = v.tail.length;
+        }
+
+        private void ensureEditable() {
+            if (edit == null) {
+                throw new IllegalStateException("Builder is already built");
+            }
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            ensureEditable();
+            Objects.checkIndex(index, size);
+            int tailOffset = size - tailSize;
+            if (index >= tailOffset) {
+                return (E) tail[index - tailOffset];
+            }
+
+            return (E) lookup(root, shift, index);
+        }
+
+        public Builder<E> add(E e) {
+            ensureEditable();
+            if (tailSize < WIDTH) {
+                tail[tailSize++] = e;
+                size++;
+                return this;
+            }
+
+            var tailNode = new Node(edit, tail);
+            tail = new Object[WIDTH];
+            tail[0] = e;
+            tailSize = 1;
+            var newRoot = pushLeaf(edit, shift, root, tailNode);
+            if (newRoot == null) {
+                newRoot = grow(edit, shift, root, tailNode);
+                shift += BITS;
+            }
+            root = newRoot;
+            size++;
+
+            return this;
+        }
+
+        public Builder<E> addAll(Iterable<? extends E> elements) {
+            for (E e : elements) {
+                add(e);
+            }
+            return this;
+        }
+
+        public Builder<E> set(int index, E e) {
+            ensureEditable();
+            Objects.checkIndex(index, size);
+            int tailOffset = size - tailSize;
+            if (index >= tailOffset) {
+                tail[index - tailOffset] = e;
+            } else {
+                root = assoc(edit, shift, root, index, e);
+            }
+
+            return this;
+        }
+
+        public PersistentVector<E> build() {
+            ensureEditable();
+            edit = null;
+            if (size == 0) {
+                return empty();
+            }
+
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, tailSize));
+        }
+    }
+}
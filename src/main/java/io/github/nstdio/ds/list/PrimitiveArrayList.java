@@ -0,0 +1,174 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The base of the lists storing primitive values unboxed in the array of type {@code A}. It owns the array, the range
+ * checks, the growth policy and the {@code List<E>} view, while subclasses add the typed accessors, search and sort.
+ *
+ * @param <A> The type of the primitive array, e.g. {@code int[]}.
+ * @param <E> The boxed type of the element, e.g. {@code Integer}.
+ */
+abstract class PrimitiveArrayList<A, E> {
+    A data;
+    int size;
+
+    abstract A newArray(int length);
+
+    abstract int length(A a);
+
+    abstract E getBoxed(int index);
+
+    abstract E setBoxed(int index, E e);
+
+    abstract void addBoxed(int index, E e);
+
+    abstract E removeBoxed(int index);
+
+    /**
+     * @return The index of the element equal to {@code o} or {@code -1} when there is no such.
+     */
+    abstract int indexOfBoxed(Object o);
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * The live {@code List} view of this list. Elements are boxed on access.
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    void growIfNecessary(int n) {
+        if (data == null) {
+            data = newArray(Math.max(8, n));
+            return;
+        }
+
+        int sz = size;
+        var d = data;
+        int length = length(d);
+        if (sz + n > length) {
+            var newCap = sz == length ? sz * 2 + n : sz + n;
+            var newData = newArray(newCap);
+            System.arraycopy(d, 0, newData, 0, sz);
+            data = newData;
+        }
+    }
+
+    void addAllFrom(A a, int off, int len) {
+        Objects.checkFromIndexSize(off, len, length(a));
+        if (len == 0) {
+            return;
+        }
+
+        growIfNecessary(len);
+        fastAddFrom(size, a, off, len);
+    }
+
+    void fastAddFrom(int from, A a, int off, int len) {
+        System.arraycopy(a, off, data, from, len);
+        size += len;
+    }
+
+    /**
+     * Shifts the elements from {@code index} one position right, the caller writes the new element at {@code index}.
+     */
+    void openGap(int index) {
+        checkPositionIndex(index);
+        growIfNecessary(1);
+
+        var d = data;
+        System.arraycopy(d, index, d, index + 1, size - index);
+        size++;
+    }
+
+    /**
+     * Shifts the elements after {@code index} one position left, the caller reads the removed element beforehand.
+     */
+    void closeGap(int index) {
+        var d = data;
+        System.arraycopy(d, index + 1, d, index, size - index - 1);
+        size--;
+    }
+
+    A copy() {
+        var a = newArray(size);
+        if (size > 0) {
+            System.arraycopy(data, 0, a, 0, size);
+        }
+
+        return a;
+    }
+
+    void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private class ListView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return getBoxed(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return setBoxed(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            addBoxed(index, element);
+            modCount++;
+        }
+
+        @Override
+        public E remove(int index) {
+            E old = removeBoxed(index);
+            modCount++;
+            return old;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return indexOfBoxed(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) > -1;
+        }
+
+        @Override
+        public void clear() {
+            PrimitiveArrayList.this.clear();
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
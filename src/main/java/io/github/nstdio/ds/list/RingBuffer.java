@@ -0,0 +1,390 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractQueue;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The bounded double-ended queue over the circular {@code Object[]} with power of two length, so index wrapping is a
+ * single mask instead of the division. Both ends are O(1) and nothing is ever shifted or reallocated. The batch
+ * operations {@link #offerBatch(Object[], int, int)} and {@link #drainTo(Consumer, int)} move elements with at most two
+ * contiguous passes over the array.
+ * <p>
+ * This class is not thread-safe, see {@link SpscRingBuffer} for the single-producer single-consumer variant. The
+ * {@code null} elements are not permitted.
+ */
+public final class RingBuffer<E> extends AbstractQueue<E> implements Deque<E> {
+    private final Object[] elements;
+    private final int mask;
+    private int head;
+    private int size;
+    private int modCount;
+
+    /**
+     * @param capacity The minimal capacity, rounded up to the power of two.
+     */
+    public RingBuffer(int capacity) {
+        int cap = roundToPowerOfTwo(capacity);
+        elements = new Object[cap];
+        mask = cap - 1;
+    }
+
+    static int roundToPowerOfTwo(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity should be in [1, 2^30]: " + capacity);
+        }
+
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == elements.length;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        Objects.requireNonNull(e);
+        if (isFull()) {
+            return false;
+        }
+
+        head = (head - 1) & mask;
+        elements[head] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        Objects.requireNonNull(e);
+        if (isFull()) {
+            return false;
+        }
+
+        elements[(head + size) & mask] = e;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Appends as many elements of {@code a[off, off + len)} as fit into the remaining capacity.
+     *
+     * @return The number of appended elements.
+     */
+    public int offerBatch(E[] a, int off, int len) {
+        Objects.checkFromIndexSize(off, len, a.length);
+        int n = Math.min(len, elements.length - size);
+        for (int i = off; i < off + n; i++) {
+            Objects.requireNonNull(a[i]);
+        }
+        if (n == 0) {
+            return 0;
+        }
+
+        int tail = (head + size) & mask;
+        int first = Math.min(n, elements.length - tail);
+        System.arraycopy(a, off, elements, tail, first);
+        System.arraycopy(a, off + first, elements, 0, n - first);
+        size += n;
+        modCount++;
+
+        return n;
+    }
+
+    /**
+     * Removes up to {@code max} elements from the head passing each of them to {@code consumer}.
+     *
+     * @return The number of removed elements.
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super E> consumer, int max) {
+        Objects.requireNonNull(consumer);
+        if (max < 0) {
+            throw new IllegalArgumentException("max should not be negative: " + max);
+        }
+
+        var es = elements;
+        int n = Math.min(max, size);
+        int h = head;
+        int i = 0;
+        try {
+            for (; i < n; i++) {
+                int idx = (h + i) & mask;
+                E e = (E) es[idx];
+                es[idx] = null;
+                consumer.accept(e);
+            }
+        } finally {
+            // the elements passed to the consumer are removed even if it throws
+            head = (h + i + (i < n ? 1 : 0)) & mask;
+            size -= i + (i < n ? 1 : 0);
+            modCount++;
+        }
+
+        return n;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        if (!offerFirst(e)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (!offerLast(e)) {
+            throw new IllegalStateException("Deque full");
+        }
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E pollFirst() {
+        if (size == 0) {
+            return null;
+        }
+
+        E e = elementAt(head);
+        elements[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        modCount++;
+        return e;
+    }
+
+    @Override
+    public E pollLast() {
+        if (size == 0) {
+            return null;
+        }
+
+        int idx = (head + size - 1) & mask;
+        E e = elementAt(idx);
+        elements[idx] = null;
+        size--;
+        modCount++;
+        return e;
+    }
+
+    @Override
+    public E removeFirst() {
+        E e = pollFirst();
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    @Override
+    public E removeLast() {
+        E e = pollLast();
+        if (e == null) {
+            throw new NoSuchElementException();
+        }
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public E peekFirst() {
+        return size == 0 ? null : elementAt(head);
+    }
+
+    @Override
+    public E peekLast() {
+        return size == 0 ? null : elementAt((head + size - 1) & mask);
+    }
+
+    @Override
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return peekFirst();
+    }
+
+    @Override
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return peekLast();
+    }
+
+    /**
+     * The element at the {@code index} counting from the head.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return elementAt((head + index) & mask);
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask].equals(o)) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (elements[(head + i) & mask].equals(o)) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask].equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the element at the {@code index} counting from the head, shifting the shorter side.
+     */
+    private void removeAt(int index) {
+        var es = elements;
+        if (index < size >> 1) {
+            for (int i = index; i > 0; i--) {
+                es[(head + i) & mask] = es[(head + i - 1) & mask];
+            }
+            es[head] = null;
+            head = (head + 1) & mask;
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                es[(head + i) & mask] = es[(head + i + 1) & mask];
+            }
+            es[(head + size - 1) & mask] = null;
+        }
+        size--;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        var es = elements;
+        for (int i = 0; i < size; i++) {
+            es[(head + i) & mask] = null;
+        }
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementAt(int idx) {
+        return (E) elements[idx];
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new It(false);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new It(true);
+    }
+
+    private class It implements Iterator<E> {
+        private final boolean descending;
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        It(boolean descending) {
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            lastRet = descending ? size - 1 - cursor : cursor;
+            cursor++;
+            return elementAt((head + lastRet) & mask);
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            removeAt(lastRet);
+            cursor--;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * The list backed by the implicit treap: the binary tree ordered by position, where every node stores the size of its
+ * subtree and the random priority keeping the tree balanced with high probability. Any edit is expressed as the split
+ * of the tree at some position and the merge of the parts, so {@link #get(int)}, {@link #add(int, Object)},
+ * {@link #remove(int)}, {@link #splitOff(int)} and {@link #concat(RopeList)} are O(log n) wherever they happen, and
+ * {@link #addAll(int, Collection)} of {@code k} elements costs O(k + log n).
+ */
+public final class RopeList<E> extends AbstractList<E> {
+    private Node<E> root;
+
+    public RopeList() {
+    }
+
+    private RopeList(Node<E> root) {
+        this.root = root;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    private static int size(Node<?> n) {
+        return n == null ? 0 : n.size;
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index);
+        return node(index).value;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index);
+        var n = node(index);
+        E old = n.value;
+        n.value = element;
+        return old;
+    }
+
+    private Node<E> node(int index) {
+        var n = root;
+        for (;;) {
+            int leftSize = size(n.left);
+            if (index < leftSize) {
+                n = n.left;
+            } else if (index == leftSize) {
+                return n;
+            } else {
+                index -= leftSize + 1;
+                n = n.right;
+            }
+        }
+    }
+
+    @Override
+    public boolean add(E e) {
+        root = merge(root, new Node<>(e));
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        var parts = split(root, index);
+        root = merge(merge(parts.left, new Node<>(element)), parts.right);
+        modCount++;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
+        Node<E> inserted = build(c.toArray());
+        if (inserted == null) {
+            return false;
+        }
+
+        var parts = split(root, index);
+        root = merge(merge(parts.left, inserted), parts.right);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        return addAll(size(), c);
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+        var parts = split(root, index);
+        var rest = split(parts.right, 1);
+        root = merge(parts.left, rest.right);
+        modCount++;
+
+        return rest.left.value;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        var parts = split(root, fromIndex);
+        var rest = split(parts.right, toIndex - fromIndex);
+        root = merge(parts.left, rest.right);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    /**
+     * Moves all elements of {@code other} to the end of this list, leaving {@code other} empty.
+     */
+    public void concat(RopeList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Can't concat the list with itself");
+        }
+
+        @SuppressWarnings("unchecked")
+        var r = (Node<E>) other.root;
+        root = merge(root, r);
+        other.clear();
+        modCount++;
+    }
+
+    /**
+     * Removes the elements starting at the {@code index} from this list.
+     *
+     * @return The list with removed elements.
+     */
+    public RopeList<E> splitOff(int index) {
+        checkPositionIndex(index);
+        var parts = split(root, index);
+        root = parts.left;
+        modCount++;
+
+        return new RopeList<>(parts.right);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        var it = new It(0);
+        while (it.hasNext()) {
+            action.accept(it.nextNode().value);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new It(0);
+    }
+
+    /**
+     * The height of the tree, used by tests to check the balance.
+     */
+    int height() {
+        return height(root);
+    }
+
+    private static int height(Node<?> n) {
+        return n == null ? 0 : 1 + Math.max(height(n.left), height(n.right));
+    }
+
+    /**
+     * Splits the tree {@code n} into the first {@code k} elements and the rest.
+     */
+    private static <E> Split<E> split(Node<E> n, int k) {
+        if (n == null) {
+            return new Split<>(null, null);
+        }
+
+        int leftSize = size(n.left);
+        if (k <= leftSize) {
+            var parts = split(n.left, k);
+            n.left = parts.right;
+            n.update();
+            return new Split<>(parts.left, n);
+        }
+
+        var parts = split(n.right, k - leftSize - 1);
+        n.right = parts.left;
+        n.update();
+        return new Split<>(n, parts.right);
+    }
+
+    /**
+     * Merges the trees where all elements of {@code a} precede all elements of {@code b}.
+     */
+    private static <E> Node<E> merge(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+
+        if (a.priority > b.priority) {
+            a.right = merge(a.right, b);
+            a.update();
+            return a;
+        }
+
+        b.left = merge(a, b.left);
+        b.update();
+        return b;
+    }
+
+    /**
+     * Builds the treap from the elements in O(n): the nodes are appended along the right spine, which is kept on the
+     * stack, popping the nodes with lower priority into the left subtree of the new one.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] a) {
+        var spine = new ArrayDeque<Node<E>>();
+        for (Object o : a) {
+            var n = new Node<>((E) o);
+            Node<E> last = null;
+            while (!spine.isEmpty() && spine.peek().priority < n.priority) {
+                last = spine.pop();
+                last.update();
+            }
+            n.left = last;
+            if (!spine.isEmpty()) {
+                spine.peek().right = n;
+            }
+            spine.push(n);
+        }
+
+        Node<E> root = null;
+        while (!spine.isEmpty()) {
+            root = spine.pop();
+            root.update();
+        }
+        return root;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static final class Node<E> {
+        final int priority = ThreadLocalRandom.current().nextInt();
+        E value;
+        int size = 1;
+        Node<E> left;
+        Node<E> right;
+
+        Node(E value) {
+            this.value = value;
+        }
+
+        void update() {
+            size = 1 + RopeList.size(left) + RopeList.size(right);
+        }
+    }
+
+    private static final class Split<E> {
+        final Node<E> left;
+        final Node<E> right;
+
+        Split(Node<E> left, Node<E> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * The in-order iterator keeping the path to the next node on the stack.
+     */
+    private class It implements Iterator<E> {
+        private final ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        It(int index) {
+            seek(index);
+        }
+
+        /**
+         * Pushes the path from the root to the node at {@code index}, keeping only the nodes the path goes left at.
+         */
+        private void seek(int index) {
+            stack.clear();
+            cursor = index;
+            var n = root;
+            while (n != null) {
+                int leftSize = size(n.left);
+                if (index < leftSize) {
+                    stack.push(n);
+                    n = n.left;
+                } else if (index == leftSize) {
+                    stack.push(n);
+                    return;
+                } else {
+                    index -= leftSize + 1;
+                    n = n.right;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        Node<E> nextNode() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+
+            var n = stack.pop();
+            for (var p = n.right; p != null; p = p.left) {
+                stack.push(p);
+            }
+            lastRet = cursor++;
+            return n;
+        }
+
+        @Override
+        public E next() {
+            return nextNode().value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+
+            RopeList.this.remove(lastRet);
+            expectedModCount = modCount;
+            seek(lastRet);
+            lastRet = -1;
+        }
+    }
+}
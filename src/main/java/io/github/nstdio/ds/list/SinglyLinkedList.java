@@ -1,17 +1,29 @@
 package io.github.nstdio.ds.list;
 
 import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 public final class SinglyLinkedList<E> implements List<E> {
     private int size;
     private Node<E> head;
     private Node<E> tail;
+    /**
+     * The number of structural modifications, used by iterators and sub lists to fail fast.
+     */
+    private int modCount;
 
     @Override
     public int size() {
@@ -36,7 +48,7 @@ public final class SinglyLinkedList<E> implements List<E> {
 
     @Override
     public Iterator<E> iterator() {
-        return new It(head);
+        return new ListItr(null, head, 0);
     }
 
     @Override
@@ -59,42 +71,90 @@ public final class SinglyLinkedList<E> implements List<E> {
     @Override
     public boolean add(E e) {
         var n = new Node<>(e);
-        if (tail != null) {
-            tail.next = n;
-            tail = tail.next;
-        } else if (head == null) {
+        if (tail == null) {
             head = n;
         } else {
-            head.next = n;
-            tail = head.next;
+            tail.next = n;
         }
+        tail = n;
 
         size++;
+        modCount++;
         return true;
     }
 
-    @Override
-    public boolean remove(Object o) {
-        if (isEmpty()) {
-            return false;
+    /**
+     * Links new node after {@code prev} or at the head when {@code prev} is {@code null}.
+     */
+    private Node<E> linkAfter(Node<E> prev, E e) {
+        Node<E> n;
+        if (prev == null) {
+            n = head = new Node<>(e, head);
+        } else {
+            n = prev.next = new Node<>(e, prev.next);
+        }
+        if (n.next == null) {
+            tail = n;
         }
 
-        var cur = new Node<>(null, head);
-        while (cur != null) {
-            var next = cur.next;
-            if (next != null && Objects.equals(next.value, o)) {
+        size++;
+        modCount++;
+        return n;
+    }
 
-                cur.next = cur.next.next;
-                if (next == head) {
-                    head = cur.next;
-                } else if (next == tail) {
-                    tail = cur;
-                }
+    /**
+     * Unlinks the node after {@code prev} or the head when {@code prev} is {@code null}.
+     */
+    private Node<E> unlinkAfter(Node<E> prev) {
+        var n = prev == null ? head : prev.next;
+        if (prev == null) {
+            head = n.next;
+        } else {
+            prev.next = n.next;
+        }
+        if (n == tail) {
+            tail = prev;
+        }
+
+        size--;
+        modCount++;
+        return n;
+    }
+
+    /**
+     * Unlinks {@code count} nodes after {@code prev} in one pass.
+     */
+    private void unlinkRange(Node<E> prev, int count) {
+        if (count == 0) {
+            return;
+        }
+
+        var n = prev == null ? head : prev.next;
+        for (int i = 0; i < count; i++) {
+            n = n.next;
+        }
 
-                size--;
+        if (prev == null) {
+            head = n;
+        } else {
+            prev.next = n;
+        }
+        if (n == null) {
+            tail = prev;
+        }
+
+        size -= count;
+        modCount++;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        Node<E> prev = null;
+        for (Node<E> n = head; n != null; prev = n, n = n.next) {
+            if (Objects.equals(n.value, o)) {
+                unlinkAfter(prev);
                 return true;
             }
-            cur = cur.next;
         }
 
         return false;
@@ -125,12 +185,18 @@ public final class SinglyLinkedList<E> implements List<E> {
 
     @Override
     public boolean addAll(int index, Collection<? extends E> c) {
+        checkPositionIndex(index);
         if (c.isEmpty()) {
             return false;
         }
 
-        for (E e : c) {
-            add(index++, e);
+        // the snapshot keeps addAll(index, this) finite
+        var a = c.toArray();
+        var prev = nodeBefore(index);
+        for (Object o : a) {
+            @SuppressWarnings("unchecked")
+            E e = (E) o;
+            prev = linkAfter(prev, e);
         }
 
         return true;
@@ -142,24 +208,32 @@ public final class SinglyLinkedList<E> implements List<E> {
             return false;
         }
 
-        boolean changed = false;
-        for (Object e : c) {
-            changed |= remove(e);
-        }
-
-        return changed;
+        return removeIf(c::contains);
     }
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        var toRemove = new java.util.ArrayList<>();
+        Objects.requireNonNull(c);
+
+        return removeIf(e -> !c.contains(e));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+
+        boolean changed = false;
+        Node<E> prev = null;
         for (Node<E> n = head; n != null; n = n.next) {
-            if (!c.contains(n.value)) {
-                toRemove.add(n.value);
+            if (filter.test(n.value)) {
+                unlinkAfter(prev);
+                changed = true;
+            } else {
+                prev = n;
             }
         }
 
-        return removeAll(toRemove);
+        return changed;
     }
 
     @Override
@@ -167,6 +241,7 @@ public final class SinglyLinkedList<E> implements List<E> {
         head = null;
         tail = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -186,71 +261,47 @@ public final class SinglyLinkedList<E> implements List<E> {
         return n;
     }
 
+    /**
+     * @return The node preceding {@code index} or {@code null} when {@code index} is zero.
+     */
+    private Node<E> nodeBefore(int index) {
+        return index == 0 ? null : nodeAt(index - 1);
+    }
+
     private void checkIndex(int index) {
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException();
         }
     }
 
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
     @Override
     public E set(int index, E element) {
         checkIndex(index);
-        if (index == 0) {
-            var old = head.value;
-            head = new Node<>(element, head.next);
-            return old;
-        }
-
-        var prev = nodeAt(index - 1);
-        var cur = prev.next;
-        prev.next = new Node<>(element, cur == tail ? null : cur);
-
-        if (cur == tail) {
-            tail = prev.next;
-        }
 
-        return cur.value;
+        var n = nodeAt(index);
+        var old = n.value;
+        n.value = element;
+        return old;
     }
 
     @Override
     public void add(int index, E element) {
-        checkIndex(index);
-
-        if (index == 0) {
-            head = new Node<>(element, head);
-        } else if (index == size - 1) {
-            var prev = nodeAt(index - 1);
-            prev.next = new Node<>(element, tail);
-        } else {
-            var prev = nodeAt(index - 1);
-            var cur = prev.next;
-            prev.next = new Node<>(element, cur);
-            prev.next.next = cur;
-        }
+        checkPositionIndex(index);
 
-        size++;
+        linkAfter(nodeBefore(index), element);
     }
 
     @Override
     public E remove(int index) {
         checkIndex(index);
-        E old;
-        if (index == 0) {
-            old = head.value;
-            head = head.next;
-        } else {
-            var prev = nodeAt(index - 1);
-            var cur = prev.next;
-            prev.next = cur.next;
-            old = cur.value;
-
-            if (cur == tail) {
-                tail = prev;
-            }
-        }
 
-        size--;
-        return old;
+        return unlinkAfter(nodeBefore(index)).value;
     }
 
     @Override
@@ -280,17 +331,33 @@ public final class SinglyLinkedList<E> implements List<E> {
 
     @Override
     public ListIterator<E> listIterator() {
-        return null;
+        return new ListItr(null, head, 0);
     }
 
+    /**
+     * Returns the list iterator. Note that as list is singly linked {@link ListIterator#previous()} has to walk from the
+     * head, so it's O(N).
+     */
     @Override
     public ListIterator<E> listIterator(int index) {
-        return null;
+        checkPositionIndex(index);
+
+        var prev = nodeBefore(index);
+        return new ListItr(prev, prev == null ? head : prev.next, index);
     }
 
+    /**
+     * Returns the live view of the range. {@code clear} on the view unlinks the whole range in a single pass.
+     */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return null;
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        return new SubList<>(this, fromIndex, toIndex);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new Split();
     }
 
     static final class Node<E> {
@@ -307,27 +374,377 @@ public final class SinglyLinkedList<E> implements List<E> {
         }
     }
 
-    class It implements Iterator<E> {
-        Node<E> cur;
+    private class ListItr implements ListIterator<E> {
+        private Node<E> prev;
+        private Node<E> next;
+        private int nextIndex;
+        private Node<E> lastReturned;
+        private Node<E> beforeLastReturned;
+        private int expectedModCount = modCount;
 
-        It(Node<E> head) {
-            cur = head;
+        ListItr(Node<E> prev, Node<E> next, int index) {
+            this.prev = prev;
+            this.next = next;
+            this.nextIndex = index;
         }
 
         @Override
         public boolean hasNext() {
-            return cur != null;
+            return nextIndex < size;
         }
 
         @Override
         public E next() {
-            if (cur == null) {
+            checkForComodification();
+            if (next == null)
                 throw new NoSuchElementException();
+
+            beforeLastReturned = prev;
+            lastReturned = prev = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if (prev == null)
+                throw new NoSuchElementException();
+
+            var before = nodeBefore(nextIndex - 1);
+            lastReturned = next = prev;
+            beforeLastReturned = prev = before;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            unlinkAfter(beforeLastReturned);
+            if (lastReturned == prev) {
+                prev = beforeLastReturned;
+                nextIndex--;
+            } else {
+                next = lastReturned.next;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E e) {
+            if (lastReturned == null)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            lastReturned.value = e;
+        }
+
+        @Override
+        public void add(E e) {
+            checkForComodification();
+
+            prev = linkAfter(prev, e);
+            nextIndex++;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * The late-binding spliterator which splits off the prefix of the list copied into array. The batch grows with
+     * every split, like in {@code java.util.LinkedList}, so the long lists are split into a few big chunks.
+     */
+    private final class Split implements Spliterator<E> {
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private Node<E> current;
+        private int est = -1;
+        private int expectedModCount;
+        private int batch;
+
+        private int getEst() {
+            int s;
+            if ((s = est) < 0) {
+                expectedModCount = modCount;
+                current = head;
+                s = est = size;
+            }
+            return s;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int s = getEst();
+            var p = current;
+            if (s <= 1 || p == null) {
+                return null;
+            }
+
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), s);
+            var a = new Object[n];
+            int j = 0;
+            do {
+                a[j++] = p.value;
+            } while ((p = p.next) != null && j < n);
+            current = p;
+            batch = j;
+            est = s - j;
+
+            return Spliterators.spliterator(a, 0, j, ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Node<E> p;
+            if (getEst() > 0 && (p = current) != null) {
+                --est;
+                current = p.next;
+                action.accept(p.value);
+                if (modCount != expectedModCount)
+                    throw new ConcurrentModificationException();
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int n = getEst();
+            var p = current;
+            current = null;
+            est = 0;
+            for (; p != null && n > 0; p = p.next, n--) {
+                action.accept(p.value);
+            }
+
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public long estimateSize() {
+            return getEst();
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
+    private static final class SubList<E> extends AbstractList<E> {
+        private final SinglyLinkedList<E> root;
+        private final int offset;
+        private int size;
+
+        SubList(SinglyLinkedList<E> root, int fromIndex, int toIndex) {
+            this.root = root;
+            this.offset = fromIndex;
+            this.size = toIndex - fromIndex;
+            this.modCount = root.modCount;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            return root.nodeAt(offset + index).value;
+        }
+
+        @Override
+        public E set(int index, E element) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            return root.set(offset + index, element);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkPositionIndex(index);
+            checkForComodification();
+
+            root.linkAfter(root.nodeBefore(offset + index), element);
+            updateSizeAndModCount(1);
+        }
+
+        @Override
+        public E remove(int index) {
+            Objects.checkIndex(index, size);
+            checkForComodification();
+
+            E old = root.unlinkAfter(root.nodeBefore(offset + index)).value;
+            updateSizeAndModCount(-1);
+            return old;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkForComodification();
+
+            root.unlinkRange(root.nodeBefore(offset + fromIndex), toIndex - fromIndex);
+            updateSizeAndModCount(fromIndex - toIndex);
+        }
+
+        /**
+         * Walks the nodes like {@link #listIterator(int)}, instead of calling {@link #get(int)} which starts from the
+         * head every time.
+         */
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int index) {
+            checkPositionIndex(index);
+            checkForComodification();
+
+            var it = root.listIterator(offset + index);
+            return new ListIterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
+
+                @Override
+                public E next() {
+                    checkForComodification();
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    return it.next();
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return previousIndex() >= 0;
+                }
+
+                @Override
+                public E previous() {
+                    checkForComodification();
+                    if (!hasPrevious())
+                        throw new NoSuchElementException();
+
+                    return it.previous();
+                }
+
+                @Override
+                public int nextIndex() {
+                    return it.nextIndex() - offset;
+                }
+
+                @Override
+                public int previousIndex() {
+                    return it.previousIndex() - offset;
+                }
+
+                @Override
+                public void remove() {
+                    checkForComodification();
+                    it.remove();
+                    updateSizeAndModCount(-1);
+                }
+
+                @Override
+                public void set(E e) {
+                    checkForComodification();
+                    it.set(e);
+                }
+
+                @Override
+                public void add(E e) {
+                    checkForComodification();
+                    it.add(e);
+                    updateSizeAndModCount(1);
+                }
+            };
+        }
+
+        @Override
+        public void sort(Comparator<? super E> c) {
+            checkForComodification();
+
+            var a = toArray();
+            @SuppressWarnings("unchecked")
+            var cmp = (Comparator<Object>) c;
+            Arrays.sort(a, cmp);
+
+            var n = root.nodeAt(offset);
+            for (Object o : a) {
+                @SuppressWarnings("unchecked")
+                E e = (E) o;
+                n.value = e;
+                n = n.next;
+            }
+            root.modCount++;
+            updateSizeAndModCount(0);
+        }
+
+        @Override
+        public Object[] toArray() {
+            checkForComodification();
+
+            var a = new Object[size];
+            var n = root.nodeAt(offset);
+            for (int i = 0; i < a.length; i++, n = n.next) {
+                a[i] = n.value;
             }
+            return a;
+        }
+
+        private void checkPositionIndex(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException();
+            }
+        }
+
+        private void checkForComodification() {
+            if (root.modCount != modCount)
+                throw new ConcurrentModificationException();
+        }
 
-            var c = this.cur;
-            cur = cur.next;
-            return c.value;
+        private void updateSizeAndModCount(int delta) {
+            size += delta;
+            modCount = root.modCount;
         }
     }
 }
@@ -0,0 +1,277 @@
+package io.github.nstdio.ds.list;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The fields of the classes below are spread over the class hierarchy because the JVM lays out superclass fields first,
+ * while fields of a single class might be reordered. So the producer and the consumer sequences never share the cache
+ * line with each other or with the neighbour objects.
+ */
+abstract class SpscPad0<E> extends AbstractQueue<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+abstract class SpscProducerFields<E> extends SpscPad0<E> {
+    /**
+     * The next sequence to write, written by the producer only.
+     */
+    long producerIndex;
+    /**
+     * The producer's cached view of {@link SpscConsumerFields#consumerIndex}.
+     */
+    long consumerLimit;
+}
+
+abstract class SpscPad1<E> extends SpscProducerFields<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+abstract class SpscConsumerFields<E> extends SpscPad1<E> {
+    /**
+     * The next sequence to read, written by the consumer only.
+     */
+    long consumerIndex;
+    /**
+     * The consumer's cached view of {@link SpscProducerFields#producerIndex}.
+     */
+    long producerLimit;
+}
+
+abstract class SpscPad2<E> extends SpscConsumerFields<E> {
+    long p00, p01, p02, p03, p04, p05, p06, p07;
+    long p10, p11, p12, p13, p14, p15, p16;
+}
+
+/**
+ * The bounded lock-free queue for exactly one producer thread and one consumer thread. Unlike {@link RingBuffer} the
+ * ends are tracked by two ever-growing sequences, each of them written by its own side only with a release store, so no
+ * CAS is ever performed. Every side caches the last seen sequence of the other one and re-reads it only when the
+ * cached value says the buffer is full (or empty), which keeps the cache line of the other side from bouncing on
+ * every operation.
+ * <p>
+ * {@link #offer(Object)} and {@link #offerBatch(Object[], int, int)} should be called from the producer thread,
+ * {@link #poll()}, {@link #peek()} and {@link #drainTo(Consumer, int)} from the consumer thread. The {@code null}
+ * elements are not permitted.
+ */
+@SuppressWarnings("unchecked")
+public final class SpscRingBuffer<E> extends SpscPad2<E> {
+    private static final VarHandle PRODUCER_INDEX;
+    private static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            PRODUCER_INDEX = lookup.findVarHandle(SpscProducerFields.class, "producerIndex", long.class);
+            CONSUMER_INDEX = lookup.findVarHandle(SpscConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] elements;
+    private final int mask;
+
+    /**
+     * @param capacity The minimal capacity, rounded up to the power of two.
+     */
+    public SpscRingBuffer(int capacity) {
+        int cap = RingBuffer.roundToPowerOfTwo(capacity);
+        elements = new Object[cap];
+        mask = cap - 1;
+    }
+
+    public int capacity() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long p = producerIndex;
+        if (p - consumerLimit == elements.length) {
+            consumerLimit = (long) CONSUMER_INDEX.getAcquire(this);
+            if (p - consumerLimit == elements.length) {
+                return false;
+            }
+        }
+
+        elements[(int) p & mask] = e;
+        PRODUCER_INDEX.setRelease(this, p + 1);
+        return true;
+    }
+
+    /**
+     * Appends as many elements of {@code a[off, off + len)} as fit into the remaining capacity, publishing all of them
+     * with a single release store. The elements are checked for {@code null} before any of them is written.
+     *
+     * @return The number of appended elements.
+     */
+    public int offerBatch(E[] a, int off, int len) {
+        Objects.checkFromIndexSize(off, len, a.length);
+        long p = producerIndex;
+        int cap = elements.length;
+        if (p - consumerLimit + len > cap) {
+            consumerLimit = (long) CONSUMER_INDEX.getAcquire(this);
+        }
+
+        int n = (int) Math.min(len, cap - (p - consumerLimit));
+        for (int i = off; i < off + n; i++) {
+            Objects.requireNonNull(a[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            elements[(int) (p + i) & mask] = a[off + i];
+        }
+        if (n > 0) {
+            PRODUCER_INDEX.setRelease(this, p + n);
+        }
+
+        return n;
+    }
+
+    @Override
+    public E poll() {
+        long c = consumerIndex;
+        if (c == producerLimit) {
+            producerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+            if (c == producerLimit) {
+                return null;
+            }
+        }
+
+        int idx = (int) c & mask;
+        E e = (E) elements[idx];
+        elements[idx] = null;
+        CONSUMER_INDEX.setRelease(this, c + 1);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long c = consumerIndex;
+        if (c == producerLimit) {
+            producerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+            if (c == producerLimit) {
+                return null;
+            }
+        }
+
+        return (E) elements[(int) c & mask];
+    }
+
+    /**
+     * Removes up to {@code max} elements passing each of them to {@code consumer}. The slots are released to the
+     * producer with a single store after the whole batch.
+     *
+     * @return The number of removed elements.
+     */
+    public int drainTo(Consumer<? super E> consumer, int max) {
+        Objects.requireNonNull(consumer);
+        if (max < 0) {
+            throw new IllegalArgumentException("max should not be negative: " + max);
+        }
+
+        long c = consumerIndex;
+        if (producerLimit - c < max) {
+            producerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+        }
+
+        int n = (int) Math.min(max, producerLimit - c);
+        int i = 0;
+        try {
+            for (; i < n; i++) {
+                int idx = (int) (c + i) & mask;
+                E e = (E) elements[idx];
+                elements[idx] = null;
+                consumer.accept(e);
+            }
+        } finally {
+            // the elements passed to the consumer are removed even if it throws
+            CONSUMER_INDEX.setRelease(this, c + i + (i < n ? 1 : 0));
+        }
+
+        return n;
+    }
+
+    /**
+     * The number of elements, might be stale when called concurrently with the producer or the consumer.
+     */
+    @Override
+    public int size() {
+        for (;;) {
+            long c = (long) CONSUMER_INDEX.getAcquire(this);
+            long p = (long) PRODUCER_INDEX.getAcquire(this);
+            if (c == (long) CONSUMER_INDEX.getAcquire(this)) {
+                return (int) (p - c);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (long) CONSUMER_INDEX.getAcquire(this) == (long) PRODUCER_INDEX.getAcquire(this);
+    }
+
+    /**
+     * The weakly consistent iterator from the head to the tail as of its creation, like the iterators of the
+     * {@code java.util.concurrent} queues. It might be called from any thread, never throws
+     * {@link java.util.ConcurrentModificationException} and skips the elements consumed while iterating. Removal is not
+     * supported, the buffer can only be consumed with {@link #poll()} or {@link #drainTo(Consumer, int)}.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements Iterator<E> {
+        private final long end = (long) PRODUCER_INDEX.getAcquire(SpscRingBuffer.this);
+        private long seq = (long) CONSUMER_INDEX.getAcquire(SpscRingBuffer.this);
+        private E next;
+
+        Itr() {
+            advance();
+        }
+
+        /**
+         * Reads the slot and then checks that the consumer hasn't passed it, like the optimistic read of
+         * {@link java.util.concurrent.locks.StampedLock}: once the slot is consumed the producer might reuse it. The
+         * consumer clears the slot before it publishes the new index, so the {@code null} slot is consumed too.
+         */
+        private void advance() {
+            next = null;
+            while (seq < end) {
+                long s = seq++;
+                E e = (E) elements[(int) s & mask];
+                VarHandle.loadLoadFence();
+                long c = (long) CONSUMER_INDEX.getAcquire(SpscRingBuffer.this);
+                if (e != null && c <= s) {
+                    next = e;
+                    return;
+                }
+                seq = Math.max(seq, c);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            E e = next;
+            if (e == null)
+                throw new NoSuchElementException();
+
+            advance();
+            return e;
+        }
+    }
+}
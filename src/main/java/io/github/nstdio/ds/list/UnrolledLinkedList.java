@@ -0,0 +1,483 @@
+package io.github.nstdio.ds.list;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * The doubly linked list where every node holds a small array of elements instead of a single one. Compared to
+ * {@link SinglyLinkedList} the pointer overhead and the number of cache misses during traversal are divided by the
+ * node capacity: {@link #get(int)} skips whole nodes and touches at most {@code size / (2 * capacity)} of them, while
+ * insertion and removal in the middle shift at most {@code capacity} elements.
+ * <p>
+ * A full node is split in half on insertion. A node that became less than half full on removal borrows an element from
+ * the next node or is merged with it, so every node except the last one stays at least half full.
+ */
+public final class UnrolledLinkedList<E> extends AbstractList<E> {
+    private static final int DEFAULT_NODE_CAPACITY = 32;
+
+    private final int nodeCapacity;
+    private Node head;
+    private Node tail;
+    private int size;
+
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * @param nodeCapacity The number of elements a single node holds. Values between 16 and 64 fit the node in one or
+     *                     a few cache lines.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("nodeCapacity should be at least 2: " + nodeCapacity);
+        }
+
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(E e) {
+        var t = tail;
+        if (t == null || t.count == nodeCapacity) {
+            t = linkAfter(t);
+        }
+
+        t.items[t.count++] = e;
+        size++;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        var n = head;
+        int off = index;
+        while (off >= n.count) {
+            off -= n.count;
+            n = n.next;
+        }
+
+        if (n.count == nodeCapacity) {
+            var half = split(n);
+            if (off > n.count) {
+                off -= n.count;
+                n = half;
+            }
+        }
+
+        var items = n.items;
+        System.arraycopy(items, off, items, off + 1, n.count - off);
+        items[off] = element;
+        n.count++;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+
+        if (index < size >> 1) {
+            var n = head;
+            while (index >= n.count) {
+                index -= n.count;
+                n = n.next;
+            }
+            return (E) n.items[index];
+        }
+
+        var n = tail;
+        int end = size - n.count;
+        while (index < end) {
+            n = n.prev;
+            end -= n.count;
+        }
+        return (E) n.items[index - end];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+
+        var n = head;
+        while (index >= n.count) {
+            index -= n.count;
+            n = n.next;
+        }
+
+        E old = (E) n.items[index];
+        n.items[index] = element;
+        return old;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index);
+
+        var n = head;
+        while (index >= n.count) {
+            index -= n.count;
+            n = n.next;
+        }
+
+        return removeAt(n, index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private E removeAt(Node n, int off) {
+        var items = n.items;
+        E old = (E) items[off];
+        int moved = n.count - off - 1;
+        System.arraycopy(items, off + 1, items, off, moved);
+        items[--n.count] = null;
+        size--;
+        modCount++;
+
+        rebalance(n);
+        return old;
+    }
+
+    /**
+     * Restores the half-full invariant of {@code n} after the removal.
+     */
+    private void rebalance(Node n) {
+        if (n.count == 0) {
+            unlink(n);
+            return;
+        }
+
+        var next = n.next;
+        int min = nodeCapacity >> 1;
+        if (n.count >= min || next == null) {
+            return;
+        }
+
+        if (n.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.items, 0, n.items, n.count, next.count);
+            n.count += next.count;
+            unlink(next);
+        } else {
+            var nextItems = next.items;
+            n.items[n.count++] = nextItems[0];
+            System.arraycopy(nextItems, 1, nextItems, 0, --next.count);
+            nextItems[next.count] = null;
+        }
+    }
+
+    /**
+     * Moves the upper half of the elements of the full node {@code n} into the new node linked after it.
+     *
+     * @return The new node.
+     */
+    private Node split(Node n) {
+        var half = linkAfter(n);
+        int keep = n.count >> 1;
+        int moved = n.count - keep;
+        System.arraycopy(n.items, keep, half.items, 0, moved);
+        Arrays.fill(n.items, keep, n.count, null);
+        half.count = moved;
+        n.count = keep;
+
+        return half;
+    }
+
+    private Node linkAfter(Node prev) {
+        var n = new Node(nodeCapacity);
+        n.prev = prev;
+        if (prev == null) {
+            n.next = head;
+            head = n;
+        } else {
+            n.next = prev.next;
+            prev.next = n;
+        }
+
+        if (n.next == null) {
+            tail = n;
+        } else {
+            n.next.prev = n;
+        }
+
+        return n;
+    }
+
+    private void unlink(Node n) {
+        var prev = n.prev;
+        var next = n.next;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.next = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.prev = prev;
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        int base = 0;
+        for (var n = head; n != null; n = n.next) {
+            var items = n.items;
+            for (int i = 0, c = n.count; i < c; i++) {
+                if (Objects.equals(items[i], o)) {
+                    return base + i;
+                }
+            }
+            base += n.count;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        int end = size;
+        for (var n = tail; n != null; n = n.prev) {
+            end -= n.count;
+            var items = n.items;
+            for (int i = n.count - 1; i >= 0; i--) {
+                if (Objects.equals(items[i], o)) {
+                    return end + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) > -1;
+    }
+
+    /**
+     * Evaluates the predicate for all elements first, marking the ones to remove in the bit set, so the list stays
+     * intact if the predicate throws. Then the survivors following the first removed element are packed into full nodes.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+
+        int expectedModCount = modCount;
+        long[] dead = null;
+        Node first = null;
+        int firstOff = 0;
+        int firstIndex = 0;
+        int removed = 0;
+        int i = 0;
+        for (var n = head; n != null; n = n.next) {
+            var items = n.items;
+            for (int j = 0, c = n.count; j < c; j++, i++) {
+                if (filter.test((E) items[j])) {
+                    if (dead == null) {
+                        dead = new long[(size + 63) >> 6];
+                        first = n;
+                        firstOff = j;
+                        firstIndex = i;
+                    }
+                    dead[i >> 6] |= 1L << i;
+                    removed++;
+                }
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed == 0) {
+            return false;
+        }
+
+        var w = first;
+        int wOff = firstOff;
+        i = firstIndex;
+        for (var n = first; n != null; n = n.next, firstOff = 0) {
+            var items = n.items;
+            for (int j = firstOff, c = n.count; j < c; j++, i++) {
+                if ((dead[i >> 6] & (1L << i)) != 0) {
+                    continue;
+                }
+
+                if (wOff == nodeCapacity) {
+                    w.count = wOff;
+                    w = w.next;
+                    wOff = 0;
+                }
+                w.items[wOff++] = items[j];
+            }
+        }
+
+        if (wOff == 0) {
+            w = w.prev;
+            wOff = w == null ? 0 : w.count;
+        }
+        if (w == null) {
+            head = tail = null;
+        } else {
+            Arrays.fill(w.items, wOff, nodeCapacity, null);
+            w.count = wOff;
+            w.next = null;
+            tail = w;
+        }
+        size -= removed;
+        modCount++;
+
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(e -> !c.contains(e));
+    }
+
+    @Override
+    public void clear() {
+        head = tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        var ret = new Object[size];
+        int i = 0;
+        for (var n = head; n != null; n = n.next) {
+            System.arraycopy(n.items, 0, ret, i, n.count);
+            i += n.count;
+        }
+
+        return ret;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (var n = head; n != null && modCount == expectedModCount; n = n.next) {
+            var items = n.items;
+            for (int i = 0, c = n.count; i < c; i++) {
+                action.accept((E) items[i]);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new It();
+    }
+
+    /**
+     * The number of nodes, used by tests to check the fill invariant.
+     */
+    int nodes() {
+        int ret = 0;
+        for (var n = head; n != null; n = n.next) {
+            ret++;
+        }
+
+        return ret;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    private static final class Node {
+        final Object[] items;
+        int count;
+        Node prev;
+        Node next;
+
+        Node(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    private class It implements Iterator<E> {
+        private Node node = head;
+        private int off;
+        private int cursor;
+        private int lastRet = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            if (cursor >= size)
+                throw new NoSuchElementException();
+
+            while (off >= node.count) {
+                off = 0;
+                node = node.next;
+            }
+
+            lastRet = cursor++;
+            return (E) node.items[off++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastRet < 0)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            // the element is at off - 1 of the current node. The rebalance keeps the following elements right after
+            // it in the same node or, when the node is unlinked, starts them at the node it still points to
+            removeAt(node, --off);
+            cursor = lastRet;
+            lastRet = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+}
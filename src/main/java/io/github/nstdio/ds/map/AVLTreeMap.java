@@ -8,6 +8,10 @@ import static io.github.nstdio.ds.map.Nodes.*;
 public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
     private AVLNode<K, V> root;
     private int size;
+    /**
+     * The number of structural modifications, used by the entry set iterators to fail fast.
+     */
+    private int modCount;
 
     @Override
     public int size() {
@@ -18,6 +22,7 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -42,6 +47,7 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
             root = new AVLNode<>(key, value);
 
             size++;
+            modCount++;
             return null;
         }
 
@@ -65,6 +71,7 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
 
                 tryBalance(p);
                 size++;
+                modCount++;
                 break;
             }
             p = n;
@@ -94,6 +101,9 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
 
             if (p == null) {
                 root = replacement;
+                if (replacement != null) {
+                    replacement.parent(null);
+                }
             } else {
                 if (n == p.left()) {
                     p.left(replacement);
@@ -110,10 +120,10 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
 
             min.left(n.left());
             if (min != n.right()) {
+                minP.left(min.right());
                 min.right(n.right());
             }
-            minP.left(null);
-            toBalance = min;
+            toBalance = min != n.right() ? minP : min;
         }
 
         if (toBalance != null) {
@@ -121,6 +131,7 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
         }
         dispose(n);
         size--;
+        modCount++;
     }
 
     private void dispose(AVLNode<K, V> n) {
@@ -210,7 +221,17 @@ public final class AVLTreeMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return Nodes.inorderEntrySet(root);
+        return new TreeEntrySet<>(this) {
+            @Override
+            BinaryNode<K, V> root() {
+                return root;
+            }
+
+            @Override
+            int modCount() {
+                return modCount;
+            }
+        };
     }
 
     /**
@@ -0,0 +1,175 @@
+package io.github.nstdio.ds.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+
+/**
+ * The {@code Map} that picks its layout based on the number of mappings. It starts as {@link ArrayMap}, which is the
+ * cheapest option for a few entries, and migrates to {@link HashMap} once the size exceeds promotion threshold.
+ * Optionally the map migrates back to {@link ArrayMap} when removals bring the size down to demotion threshold. The gap
+ * between thresholds prevents migrating back and forth when size oscillates around a single value.
+ */
+public final class AdaptiveMap<K, V> extends AbstractMap<K, V> {
+    /**
+     * The demotion threshold which disables demotion.
+     */
+    public static final int NO_DEMOTION = -1;
+    private static final int DEFAULT_PROMOTE_THRESHOLD = 8;
+
+    private final int promoteThreshold;
+    private final int demoteThreshold;
+    private Map<K, V> delegate = new ArrayMap<>();
+    private boolean hashed;
+
+    public AdaptiveMap() {
+        this(DEFAULT_PROMOTE_THRESHOLD, NO_DEMOTION);
+    }
+
+    /**
+     * @param promoteThreshold The size above which the map switches to hashed layout.
+     * @param demoteThreshold  The size at which the map switches back to array layout, or {@link #NO_DEMOTION}.
+     */
+    public AdaptiveMap(int promoteThreshold, int demoteThreshold) {
+        if (promoteThreshold < 1) {
+            throw new IllegalArgumentException("promoteThreshold should be positive: " + promoteThreshold);
+        }
+        if (demoteThreshold < NO_DEMOTION || demoteThreshold >= promoteThreshold) {
+            throw new IllegalArgumentException("demoteThreshold should be less than promoteThreshold: " + demoteThreshold);
+        }
+
+        this.promoteThreshold = promoteThreshold;
+        this.demoteThreshold = demoteThreshold;
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public V get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return delegate.containsValue(value);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V old = delegate.put(key, value);
+        if (!hashed && delegate.size() > promoteThreshold) {
+            migrate(new HashMap<>(), true);
+        }
+
+        return old;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V old = delegate.remove(key);
+        demoteIfShrunk();
+
+        return old;
+    }
+
+    private void demoteIfShrunk() {
+        if (hashed && delegate.size() <= demoteThreshold) {
+            migrate(new ArrayMap<>(), false);
+        }
+    }
+
+    private void migrate(Map<K, V> target, boolean hashed) {
+        target.putAll(delegate);
+        delegate = target;
+        this.hashed = hashed;
+    }
+
+    @Override
+    public void clear() {
+        if (hashed && demoteThreshold != NO_DEMOTION) {
+            delegate = new ArrayMap<>();
+            hashed = false;
+        } else {
+            delegate.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new EntrySet();
+    }
+
+    boolean isHashed() {
+        return hashed;
+    }
+
+    /**
+     * The view over the current delegate. Removals re-check the demotion threshold.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> spliterator() {
+            return delegate.entrySet().spliterator();
+        }
+
+        @Override
+        public int size() {
+            return AdaptiveMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            AdaptiveMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        /**
+         * The delegate being iterated. Once the removal demotes the map, the source is detached and no longer
+         * modified, so the iteration goes on over it and the removals go through the map.
+         */
+        private final Map<K, V> source = delegate;
+        private final Iterator<Entry<K, V>> it = source.entrySet().iterator();
+        private Entry<K, V> last;
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            return last = it.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null)
+                throw new IllegalStateException();
+
+            if (source == delegate) {
+                it.remove();
+                demoteIfShrunk();
+            } else {
+                AdaptiveMap.this.remove(last.getKey());
+            }
+            last = null;
+        }
+    }
+}
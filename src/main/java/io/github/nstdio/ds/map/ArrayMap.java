@@ -1,20 +1,40 @@
 package io.github.nstdio.ds.map;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.Spliterator;
 
+/**
+ * The {@code Map} implementation that keeps keys, values and key hashes in parallel arrays. Lookups scan the
+ * {@code int[]} of hashes and call {@link Object#equals(Object)} only for the keys with matching hash. No objects are
+ * allocated per mapping, which makes this map a good fit for a small number of entries.
+ */
 public class ArrayMap<K, V> extends AbstractMap<K, V> {
-    private Entry<K, V>[] entries = new Entry[16];
+    private static final Object[] EMPTY = {};
+    private static final int[] EMPTY_HASHES = {};
+
+    private Object[] keys = EMPTY;
+    private Object[] values = EMPTY;
+    private int[] hashes = EMPTY_HASHES;
     private int size;
 
-    private static <K, V, R> int indexOf(Object value, Entry<K, V>[] arr, int size, Function<Entry<K, V>, R> fn) {
-        for (int i = 0; i < size; i++) {
-            if (Objects.equals(fn.apply(arr[i]), value)) {
+    private static int hash(Object key) {
+        return key == null ? 0 : key.hashCode();
+    }
+
+    private int indexOfKey(Object key) {
+        int h = hash(key);
+        var hs = hashes;
+        var ks = keys;
+        for (int i = 0, n = size; i < n; i++) {
+            if (hs[i] == h && Objects.equals(ks[i], key)) {
                 return i;
             }
         }
@@ -22,10 +42,6 @@ public class ArrayMap<K, V> extends AbstractMap<K, V> {
         return -1;
     }
 
-    private <R> int indexOf(Object o, Function<Entry<K, V>, R> fn) {
-        return indexOf(o, entries, size, fn);
-    }
-
     @Override
     public int size() {
         return size;
@@ -33,50 +49,61 @@ public class ArrayMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public boolean containsKey(Object key) {
-        return indexOf(key, Entry::getKey) != -1;
+        return indexOfKey(key) != -1;
     }
 
     @Override
     public boolean containsValue(Object value) {
-        return indexOf(value, Entry::getValue) != -1;
+        var vs = values;
+        for (int i = 0, n = size; i < n; i++) {
+            if (Objects.equals(vs[i], value)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     @Override
     public V get(Object key) {
-        var i = indexOf(key, Entry::getKey);
+        var i = indexOfKey(key);
         if (i == -1) {
             return null;
         }
 
-        return entries[i].getValue();
+        return valueAt(i);
     }
 
     @Override
     public V put(K key, V value) {
-        var es = entries;
-        var n = size;
-
-        int i = indexOf(key, Entry::getKey);
-        boolean found = i != -1;
-        i = found ? i : n;
-
-        if (!found && es.length == n) {
-            es = entries = Arrays.copyOf(es, n * 2);
+        int i = indexOfKey(key);
+        if (i != -1) {
+            V old = valueAt(i);
+            values[i] = value;
+            return old;
         }
 
-        V old = null;
-        if (found) {
-            old = es[i].setValue(value);
-        } else {
-            es[i] = new SimpleEntry<>(key, value);
-            size = n + 1;
+        var n = size;
+        if (keys.length == n) {
+            grow(n == 0 ? 8 : n * 2);
         }
-        return old;
+
+        keys[n] = key;
+        values[n] = value;
+        hashes[n] = hash(key);
+        size = n + 1;
+        return null;
+    }
+
+    private void grow(int capacity) {
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
     }
 
     @Override
     public V remove(Object key) {
-        final int i = indexOf(key, Entry::getKey);
+        final int i = indexOfKey(key);
         if (i == -1) {
             return null;
         }
@@ -84,18 +111,32 @@ public class ArrayMap<K, V> extends AbstractMap<K, V> {
     }
 
     private V removeAt(int i) {
-        var es = entries;
-        var n = size;
+        var n = size - 1;
+        V old = valueAt(i);
 
-        V old = es[i].getValue();
-
-        int shiftLen = Math.max(n - 1, 1);
-        System.arraycopy(es, i + 1, es, i, shiftLen);
-        size = n - 1;
+        int shiftLen = n - i;
+        if (shiftLen > 0) {
+            System.arraycopy(keys, i + 1, keys, i, shiftLen);
+            System.arraycopy(values, i + 1, values, i, shiftLen);
+            System.arraycopy(hashes, i + 1, hashes, i, shiftLen);
+        }
+        keys[n] = null;
+        values[n] = null;
+        size = n;
 
         return old;
     }
 
+    @SuppressWarnings("unchecked")
+    private K keyAt(int i) {
+        return (K) keys[i];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int i) {
+        return (V) values[i];
+    }
+
     @Override
     public void putAll(Map<? extends K, ? extends V> m) {
         m.forEach(this::put);
@@ -103,18 +144,118 @@ public class ArrayMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public void clear() {
-        Arrays.fill(entries, null);
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
         size = 0;
     }
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        var ret = new HashSet<Entry<K, V>>(size);
-        var es = entries;
-        for (int i = 0; i < size; i++) {
-            ret.add(es[i]);
+        return new EntrySet();
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> spliterator() {
+            return new IndexSpliterator<>(MapEntry::new, 0, size, Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+
+        @Override
+        public int size() {
+            return size;
         }
 
-        return ret;
+        @Override
+        public void clear() {
+            ArrayMap.this.clear();
+        }
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private int cursor;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            last = cursor++;
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1)
+                throw new IllegalStateException();
+
+            removeAt(last);
+            cursor = last;
+            last = -1;
+        }
+    }
+
+    /**
+     * The entry that reads and writes the value slot directly. It implements {@link Map.Entry} rather than extending
+     * {@link SimpleEntry}, which is serializable while this entry can't be serialized without its map.
+     */
+    private class MapEntry implements Entry<K, V> {
+        private final int index;
+        private final K key;
+        private V value;
+
+        MapEntry(int index) {
+            this.index = index;
+            this.key = keyAt(index);
+            this.value = valueAt(index);
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            if (index >= size || keys[index] != key)
+                throw new ConcurrentModificationException();
+
+            values[index] = value;
+            V old = this.value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry
+                    && Objects.equals(key, ((Map.Entry<?, ?>) o).getKey())
+                    && Objects.equals(value, ((Map.Entry<?, ?>) o).getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
     }
 }
@@ -0,0 +1,286 @@
+package io.github.nstdio.ds.map;
+
+import static io.github.nstdio.ds.map.Nodes.asComparable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+
+/**
+ * The read-only sorted {@code Map} with numeric keys. Keys are looked up with the help of a learned index: piecewise
+ * linear approximation of the keys distribution where every segment predicts the position of the key with error at
+ * most {@code epsilon}. So instead of searching the whole array the lookup performs binary search inside the window of
+ * {@code 2 * epsilon} entries around the predicted position. For well-behaved keys like sequential ids or timestamps
+ * the model consists of a handful of segments and stays in cache.
+ * <p>
+ * The model is built over {@link Number#doubleValue()} of the keys, while the final search always uses
+ * {@link Comparable#compareTo(Object)}, so the prediction error can only cost additional probes, never a wrong answer.
+ */
+public final class FrozenSortedArrayMap<K extends Number & Comparable<? super K>, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_EPSILON = 32;
+
+    private final Object[] keys;
+    private final Object[] values;
+    private final int epsilon;
+
+    private final double[] segmentKeys;
+    private final double[] slopes;
+    private final int[] starts;
+
+    private FrozenSortedArrayMap(Object[] keys, Object[] values, int epsilon) {
+        this.keys = keys;
+        this.values = values;
+        this.epsilon = epsilon;
+
+        int n = keys.length;
+        var sk = new double[Math.max(n, 1)];
+        var sl = new double[sk.length];
+        var st = new int[sk.length];
+
+        int segments = 0;
+        int s = 0;
+        while (s < n) {
+            double x0 = key(s);
+            double lo = 0;
+            double hi = Double.POSITIVE_INFINITY;
+
+            int i = s + 1;
+            for (; i < n; i++) {
+                double dx = key(i) - x0;
+                int dy = i - s;
+                if (dx == 0) {
+                    if (dy > epsilon) break;
+                    continue;
+                }
+
+                double l = Math.max(lo, ((double) dy - epsilon) / dx);
+                double h = Math.min(hi, ((double) dy + epsilon) / dx);
+                if (l > h) break;
+
+                lo = l;
+                hi = h;
+            }
+
+            sk[segments] = x0;
+            sl[segments] = hi == Double.POSITIVE_INFINITY ? lo : (lo + hi) / 2;
+            st[segments] = s;
+            segments++;
+            s = i;
+        }
+
+        segmentKeys = Arrays.copyOf(sk, segments);
+        slopes = Arrays.copyOf(sl, segments);
+        starts = Arrays.copyOf(st, segments);
+    }
+
+    /**
+     * Creates the frozen copy of the {@code map} with default model error.
+     *
+     * @param map The map to copy.
+     * @param <K> The type of keys.
+     * @param <V> The type of values.
+     *
+     * @return The frozen map.
+     */
+    public static <K extends Number & Comparable<? super K>, V> FrozenSortedArrayMap<K, V> copyOf(Map<? extends K, ? extends V> map) {
+        return copyOf(map, DEFAULT_EPSILON);
+    }
+
+    /**
+     * Creates the frozen copy of the {@code map}.
+     *
+     * @param map     The map to copy.
+     * @param epsilon The maximal distance between predicted and actual key position. Lower values mean narrower search
+     *                window and bigger model.
+     * @param <K>     The type of keys.
+     * @param <V>     The type of values.
+     *
+     * @return The frozen map.
+     */
+    public static <K extends Number & Comparable<? super K>, V> FrozenSortedArrayMap<K, V> copyOf(Map<? extends K, ? extends V> map,
+                                                                                                int epsilon) {
+        if (epsilon < 1) {
+            throw new IllegalArgumentException("epsilon should be positive: " + epsilon);
+        }
+
+        @SuppressWarnings("unchecked")
+        Entry<K, V>[] es = (Entry<K, V>[]) map.entrySet().toArray(new Entry<?, ?>[0]);
+        for (Entry<K, V> e : es) {
+            asComparable(e.getKey());
+        }
+        if (!isSorted(es)) {
+            Arrays.sort(es, Entry.comparingByKey());
+        }
+
+        int n = es.length;
+        var keys = new Object[n];
+        var values = new Object[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = es[i].getKey();
+            values[i] = es[i].getValue();
+        }
+
+        return new FrozenSortedArrayMap<>(keys, values, epsilon);
+    }
+
+    private static <K extends Comparable<? super K>, V> boolean isSorted(Entry<K, V>[] es) {
+        for (int i = 1; i < es.length; i++) {
+            if (es[i - 1].getKey().compareTo(es[i].getKey()) > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private double key(int i) {
+        return ((Number) keys[i]).doubleValue();
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int i = indexFor(key);
+        return i < 0 ? null : (V) values[i];
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexFor(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object v : values) {
+            if (Objects.equals(v, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    private int indexFor(Object key) {
+        int n = keys.length;
+        if (n == 0 || !(key instanceof Number)) {
+            return -1;
+        }
+
+        Comparable<? super K> k = asComparable(key);
+        int pos = predict(((Number) key).doubleValue());
+        // the window is clamped in long arithmetic, so large epsilon can't overflow
+        int lo = (int) Math.max((long) pos - epsilon - 1, 0);
+        int hi = (int) Math.min((long) pos + epsilon + 1, n - 1);
+
+        if (k.compareTo(keyAt(lo)) < 0 && lo > 0 || k.compareTo(keyAt(hi)) > 0 && hi < n - 1) {
+            lo = 0;
+            hi = n - 1;
+        }
+
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int cmp = k.compareTo(keyAt(mid));
+
+            if (cmp > 0) {
+                lo = mid + 1;
+            } else if (cmp < 0) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    private int predict(double k) {
+        var sk = segmentKeys;
+        int lo = 0;
+        int hi = sk.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (sk[mid] <= k) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+
+        double offset = Math.max(k - sk[lo], 0) * slopes[lo];
+        return (int) Math.min(starts[lo] + offset, keys.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int i) {
+        return (K) keys[i];
+    }
+
+    /**
+     * The number of linear segments in the learned model.
+     */
+    int segments() {
+        return segmentKeys.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<K, V> entryAt(int i) {
+        return new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<>() {
+                    private int i;
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < keys.length;
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+
+                        return entryAt(i++);
+                    }
+                };
+            }
+
+            @Override
+            public Spliterator<Entry<K, V>> spliterator() {
+                return new IndexSpliterator<>(FrozenSortedArrayMap.this::entryAt, 0, keys.length,
+                        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.nstdio.ds.map;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.RandomAccess;
 import java.util.Set;
@@ -130,7 +133,7 @@ public final class HashMap<K, V> extends AbstractMap<K, V> {
     }
 
     int indexFor(Object k, int size) {
-        return k == null ? 0 : k.hashCode() % size;
+        return k == null ? 0 : (k.hashCode() & 0x7fffffff) % size;
     }
 
     Entry<K, V> entryForKey(List<Entry<K, V>> bucket, Object key) {
@@ -165,13 +168,7 @@ public final class HashMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        var ret = new HashSet<Entry<K, V>>(size);
-        for (List<Entry<K, V>> bucket : table) {
-            if (bucket == null || bucket.isEmpty()) continue;
-            ret.addAll(bucket);
-        }
-
-        return ret;
+        return new EntrySet();
     }
 
     @Override
@@ -179,4 +176,62 @@ public final class HashMap<K, V> extends AbstractMap<K, V> {
         Arrays.fill(table, null);
         size = 0;
     }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            HashMap.this.clear();
+        }
+    }
+
+    /**
+     * Walks the buckets of the table and removes through the iterator of the current bucket.
+     */
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+        private final List<Entry<K, V>>[] tab = table;
+        private int index;
+        private Iterator<Entry<K, V>> bucket = Collections.emptyIterator();
+        private Iterator<Entry<K, V>> last;
+
+        @Override
+        public boolean hasNext() {
+            while (!bucket.hasNext() && index < tab.length) {
+                var b = tab[index++];
+                if (b != null) {
+                    bucket = b.iterator();
+                }
+            }
+
+            return bucket.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            last = bucket;
+            return bucket.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null)
+                throw new IllegalStateException();
+
+            last.remove();
+            last = null;
+            size--;
+        }
+    }
 }
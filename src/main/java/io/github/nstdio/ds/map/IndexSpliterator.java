@@ -0,0 +1,68 @@
+package io.github.nstdio.ds.map;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * The {@code Spliterator} over the range of array-like structure. Splits the range in halves, so all parts know their
+ * exact size.
+ */
+final class IndexSpliterator<T> implements Spliterator<T> {
+    private final IntFunction<? extends T> elementAt;
+    private final int fence;
+    private final int characteristics;
+    private int index;
+
+    /**
+     * @param elementAt       The function producing element at given index.
+     * @param origin          The first index, inclusive.
+     * @param fence           The last index, exclusive.
+     * @param characteristics The characteristics besides {@link #SIZED} and {@link #SUBSIZED}.
+     */
+    IndexSpliterator(IntFunction<? extends T> elementAt, int origin, int fence, int characteristics) {
+        this.elementAt = elementAt;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics | SIZED | SUBSIZED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(elementAt.apply(index++));
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+        for (int i = index, hi = fence; i < hi; i++) {
+            action.accept(elementAt.apply(i));
+        }
+        index = fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+
+        return lo >= mid ? null : new IndexSpliterator<>(elementAt, lo, index = mid, characteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+}
@@ -1,10 +1,6 @@
 package io.github.nstdio.ds.map;
 
-import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayDeque;
-import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Consumer;
 
 final class Nodes {
@@ -29,16 +25,6 @@ final class Nodes {
         return null;
     }
 
-    static <K, V> Set<Map.Entry<K, V>> inorderEntrySet(BinaryNode<K, V> root) {
-        if (root == null) {
-            return Set.of();
-        }
-
-        Set<Map.Entry<K, V>> ret = new LinkedHashSet<>();
-        traverseInOrder(root, n -> ret.add(new SimpleEntry<>(n.getKey(), n.getValue())));
-        return ret;
-    }
-
     static <K, V> void traverseInOrder(BinaryNode<K, V> root, Consumer<BinaryNode<K, V>> visitor) {
         if (root == null) {
             return;
@@ -9,11 +9,16 @@ import java.util.Set;
 public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
     private BinaryNode<K, V> root;
     private int size;
+    /**
+     * The number of structural modifications, used by the entry set iterators to fail fast.
+     */
+    private int modCount;
 
     @Override
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
     }
 
     @Override
@@ -43,6 +48,7 @@ public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
             return null;
         }
         size--;
+        modCount++;
         V old = n.getValue();
 
         if (n == root || n.parent() == root) {
@@ -74,7 +80,7 @@ public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
                 BinaryNode<K, V> m = min(n.right());
 
                 if (m.parent() == n) {
-                    m.parent().parent(m.right());
+                    n.right(m.right());
                 } else {
                     m.parent().left(m.right());
                 }
@@ -95,6 +101,7 @@ public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
         if (root == null) {
             root = new BinaryNode<>(key, value);
             size++;
+            modCount++;
             return null;
         }
 
@@ -119,6 +126,7 @@ public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
                 }
                 n.parent(p);
                 size++;
+                modCount++;
                 break;
             }
             p = n;
@@ -133,6 +141,16 @@ public class PlainTreeMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return Nodes.inorderEntrySet(root);
+        return new TreeEntrySet<>(this) {
+            @Override
+            BinaryNode<K, V> root() {
+                return root;
+            }
+
+            @Override
+            int modCount() {
+                return modCount;
+            }
+        };
     }
 }
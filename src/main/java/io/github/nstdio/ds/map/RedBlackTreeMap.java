@@ -12,6 +12,10 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
 
     private Node<K, V> root;
     private int size;
+    /**
+     * The number of structural modifications, used by the entry set iterators to fail fast.
+     */
+    private int modCount;
 
     static boolean isRed(Node<?, ?> x) {
         return x != null && x.color() == RED;
@@ -43,7 +47,17 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return inorderEntrySet(root);
+        return new TreeEntrySet<>(this) {
+            @Override
+            BinaryNode<K, V> root() {
+                return root;
+            }
+
+            @Override
+            int modCount() {
+                return modCount;
+            }
+        };
     }
 
     @Override
@@ -60,6 +74,7 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
             root = new Node<>(key, value, BLACK);
 
             size++;
+            modCount++;
             return null;
         }
 
@@ -75,6 +90,7 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
         V old = n.getValue();
         delete(n);
         size--;
+        modCount++;
 
         return old;
     }
@@ -87,6 +103,9 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
 
             if (p == null) {
                 root = replacement;
+                if (replacement != null) {
+                    replacement.parent(null);
+                }
             } else {
                 if (n == p.left()) {
                     p.left(replacement);
@@ -103,9 +122,9 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
 
             min.left(n.left());
             if (min != n.right()) {
+                minP.left(min.right());
                 min.right(n.right());
             }
-            minP.left(null);
             toFix = min;
         }
 
@@ -197,6 +216,7 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
                 fixAfterPut(n);
 
                 size++;
+                modCount++;
                 break;
             }
             p = n;
@@ -285,6 +305,7 @@ public final class RedBlackTreeMap<K, V> extends AbstractMap<K, V> {
     public void clear() {
         root = null;
         size = 0;
+        modCount++;
     }
 
     // do all paths from root to leaf have same number of black edges?
@@ -1,21 +1,53 @@
 package io.github.nstdio.ds.map;
 
 import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
 
 /**
  * The {@code Map} implementation backed by growable array. Note that internal array maintained by this map NOT and hash
  * table, it's sorted array of {@code Entry}. So all key related operations should be O(logN), because be are performing
  * search on a sorted array. However {@link #put(Object, Object)} might require an additional array shift, so it's
  * become O(N).
+ * <p>
+ * Maps created with {@link #forNumericKeys()} locate keys with interpolation search: the probe position is guessed from
+ * the key value relative to the bounds of the current range, which takes O(log log N) probes for roughly uniformly
+ * distributed keys. Once two guesses fail to halve the range, or after a few unsuccessful guesses, the search falls
+ * back to plain bisection, so skewed keys still cost O(logN).
  */
 public final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
+    private static final int MAX_INTERPOLATION_PROBES = 8;
+
+    private final boolean interpolate;
     private Entry<K, V>[] entries;
     private int size;
 
+    public SortedArrayMap() {
+        this(false);
+    }
+
+    private SortedArrayMap(boolean interpolate) {
+        this.interpolate = interpolate;
+    }
+
+    /**
+     * Creates the map that uses interpolation search for key lookups. Best suited for keys like timestamps or
+     * sequential ids.
+     *
+     * @param <K> The type of keys.
+     * @param <V> The type of values.
+     *
+     * @return The empty map.
+     */
+    public static <K extends Number & Comparable<? super K>, V> SortedArrayMap<K, V> forNumericKeys() {
+        return new SortedArrayMap<>(true);
+    }
+
     @Override
     public int size() {
         return size;
@@ -88,15 +120,19 @@ public final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
             return null;
         }
 
+        return removeAt(i);
+    }
+
+    private V removeAt(int i) {
         Entry<K, V>[] es = entries;
+        int last = size - 1;
         V val = es[i].getValue();
-        if (i != n) {
-            System.arraycopy(es, i + 1, es, i, Math.max(n - i, 1));
-        } else {
-            es[i] = null;
+        if (i != last) {
+            System.arraycopy(es, i + 1, es, i, last - i);
         }
+        es[last] = null;
 
-        size = n - 1;
+        size = last;
         return val;
     }
 
@@ -111,6 +147,35 @@ public final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
         int lo = 0;
         int hi = size - 1;
 
+        if (interpolate && key instanceof Number) {
+            double k = ((Number) key).doubleValue();
+            int misses = 0;
+
+            for (int probes = 0; lo <= hi && probes < MAX_INTERPOLATION_PROBES; probes++) {
+                double kl = ((Number) es[lo].getKey()).doubleValue();
+                double kh = ((Number) es[hi].getKey()).doubleValue();
+                if (k < kl || k > kh) {
+                    break;
+                }
+
+                int mid = kh == kl ? lo : lo + (int) ((k - kl) / (kh - kl) * (hi - lo));
+                int cmp = asComparable(es[mid].getKey()).compareTo(key);
+                int range = hi - lo;
+
+                if (cmp < 0) {
+                    lo = mid + 1;
+                } else if (cmp > 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+                // the second guess that does not halve the range means the keys are skewed and bisection is cheaper
+                if (hi - lo > range / 2 && ++misses == 2) {
+                    break;
+                }
+            }
+        }
+
         while (lo <= hi) {
             int mid = (hi + lo) / 2;
             K v = es[mid].getKey();
@@ -140,18 +205,7 @@ public final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
 
     @Override
     public Set<Entry<K, V>> entrySet() {
-        int n = size;
-        if (n == 0) {
-            return Set.of();
-        }
-
-        var ret = new LinkedHashSet<Entry<K, V>>(n);
-        var es = entries;
-        for (int i = 0; i < n; i++) {
-            ret.add(es[i]);
-        }
-
-        return ret;
+        return new EntrySet();
     }
 
     @Override
@@ -162,4 +216,54 @@ public final class SortedArrayMap<K, V> extends AbstractMap<K, V> {
         }
         size = 0;
     }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<>() {
+                private int cursor;
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < size;
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+
+                    last = cursor++;
+                    return entries[last];
+                }
+
+                @Override
+                public void remove() {
+                    if (last == -1)
+                        throw new IllegalStateException();
+
+                    removeAt(last);
+                    cursor = last;
+                    last = -1;
+                }
+            };
+        }
+
+        @Override
+        public Spliterator<Entry<K, V>> spliterator() {
+            var es = entries;
+            return new IndexSpliterator<>(i -> es[i], 0, size, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            SortedArrayMap.this.clear();
+        }
+    }
 }
@@ -0,0 +1,210 @@
+package io.github.nstdio.ds.map;
+
+import static io.github.nstdio.ds.map.Nodes.asComparable;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The entry set view of binary search tree map, it reads the root and the size of the map on every call. Entries are
+ * snapshots of the nodes at the moment they are visited, in key order. The iterator is fail-fast and supports removal.
+ */
+abstract class TreeEntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+    private final Map<K, V> map;
+
+    TreeEntrySet(Map<K, V> map) {
+        this.map = map;
+    }
+
+    abstract BinaryNode<K, V> root();
+
+    abstract int modCount();
+
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+        return new EntryIterator();
+    }
+
+    @Override
+    public Spliterator<Map.Entry<K, V>> spliterator() {
+        return new TreeSpliterator<>(root(), map.size());
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * The in-order traversal with the explicit stack of the nodes whose left subtree is being visited. The removal
+     * might rotate the tree or move the keys between nodes, so the stack is rebuilt by descending from the root to the
+     * first key greater than the removed one, which is O(log n) for balanced trees.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private final ArrayDeque<BinaryNode<K, V>> stack = new ArrayDeque<>();
+        private int expectedModCount = modCount();
+        private K lastKey;
+
+        EntryIterator() {
+            pushLeft(root());
+        }
+
+        private void pushLeft(BinaryNode<K, V> n) {
+            for (; n != null; n = n.left()) {
+                stack.push(n);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            checkForComodification();
+            if (stack.isEmpty())
+                throw new NoSuchElementException();
+
+            var n = stack.pop();
+            pushLeft(n.right());
+            lastKey = n.getKey();
+            return new SimpleEntry<>(lastKey, n.getValue());
+        }
+
+        @Override
+        public void remove() {
+            if (lastKey == null)
+                throw new IllegalStateException();
+            checkForComodification();
+
+            map.remove(lastKey);
+            expectedModCount = modCount();
+
+            stack.clear();
+            Comparable<? super K> k = asComparable(lastKey);
+            for (var n = root(); n != null; ) {
+                if (k.compareTo(n.getKey()) < 0) {
+                    stack.push(n);
+                    n = n.left();
+                } else {
+                    n = n.right();
+                }
+            }
+            lastKey = null;
+        }
+
+        private void checkForComodification() {
+            if (modCount() != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Splits the tree by subtrees. The pending work is the deque of nodes to visit and subtrees to visit in order, and
+     * splitting hands the front half of it to a new spliterator. When only one subtree is left it's expanded into its
+     * left subtree, root and right subtree first.
+     */
+    private static final class TreeSpliterator<K, V> implements Spliterator<Map.Entry<K, V>> {
+        private final ArrayDeque<Object> pending = new ArrayDeque<>();
+        private long est;
+        private boolean exact;
+
+        TreeSpliterator(BinaryNode<K, V> root, int size) {
+            if (root != null) {
+                pending.add(new Subtree<>(root));
+            }
+            est = size;
+            exact = true;
+        }
+
+        private TreeSpliterator(long est) {
+            this.est = est;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super Map.Entry<K, V>> action) {
+            Objects.requireNonNull(action);
+
+            Object item;
+            while ((item = pending.pollFirst()) instanceof Subtree) {
+                expand(((Subtree<K, V>) item).node);
+            }
+            if (item == null) {
+                return false;
+            }
+
+            var n = (BinaryNode<K, V>) item;
+            if (est > 0) {
+                est--;
+            }
+            action.accept(new SimpleEntry<>(n.getKey(), n.getValue()));
+            return true;
+        }
+
+        private void expand(BinaryNode<K, V> n) {
+            while (n != null) {
+                if (n.right() != null) {
+                    pending.addFirst(new Subtree<>(n.right()));
+                }
+                pending.addFirst(n);
+                n = n.left();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Spliterator<Map.Entry<K, V>> trySplit() {
+            if (pending.size() == 1 && pending.peekFirst() instanceof Subtree) {
+                var n = ((Subtree<K, V>) pending.pollFirst()).node;
+                if (n.right() != null) pending.addFirst(new Subtree<>(n.right()));
+                pending.addFirst(n);
+                if (n.left() != null) pending.addFirst(new Subtree<>(n.left()));
+            }
+
+            int k = pending.size();
+            if (k < 2) {
+                return null;
+            }
+
+            var prefix = new TreeSpliterator<K, V>(est >>>= 1);
+            for (int i = (k + 1) / 2; i > 0; i--) {
+                prefix.pending.addLast(pending.pollFirst());
+            }
+            exact = false;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return est;
+        }
+
+        @Override
+        public int characteristics() {
+            return (exact ? SIZED : 0) | DISTINCT | ORDERED | NONNULL;
+        }
+    }
+
+    private static final class Subtree<K, V> {
+        final BinaryNode<K, V> node;
+
+        Subtree(BinaryNode<K, V> node) {
+            this.node = node;
+        }
+    }
+}
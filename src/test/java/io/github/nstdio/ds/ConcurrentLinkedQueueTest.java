@@ -0,0 +1,185 @@
+package io.github.nstdio.ds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+class ConcurrentLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int CONSUMERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void shouldPollInInsertionOrder() {
+        //given
+        var q = new ConcurrentLinkedQueue<Integer>();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            q.offer(i);
+        }
+
+        //then
+        assertEquals(100, q.size());
+        assertThat(q).startsWith(0, 1, 2);
+        assertEquals(0, q.peek());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, q.poll());
+        }
+        assertNull(q.poll());
+        assertNull(q.peek());
+        assertTrue(q.isEmpty());
+    }
+
+    @Test
+    void shouldNotPermitNull() {
+        //given
+        var q = new ConcurrentLinkedQueue<Integer>();
+
+        //when + then
+        assertThatNullPointerException().isThrownBy(() -> q.offer(null));
+    }
+
+    @Test
+    void shouldRemoveElements() {
+        //given
+        var q = new ConcurrentLinkedQueue<Integer>();
+        for (int i = 0; i < 10; i++) {
+            q.offer(i);
+        }
+
+        //when
+        boolean first = q.remove(0);
+        boolean middle = q.remove(5);
+        boolean last = q.remove(9);
+        boolean missing = q.remove(9);
+        q.removeIf(e -> e % 2 == 0);
+        q.offer(10);
+
+        //then
+        assertTrue(first && middle && last);
+        assertThat(missing).isFalse();
+        assertEquals(4, q.size());
+        assertEquals(1, q.peek());
+        assertThat(q).containsExactly(1, 3, 7, 10);
+        assertEquals(1, q.poll());
+        assertEquals(3, q.poll());
+        assertEquals(7, q.poll());
+        assertEquals(10, q.poll());
+        assertNull(q.poll());
+    }
+
+    @RepeatedTest(4)
+    void shouldPollOrRemoveEveryElementOnce() throws Exception {
+        //given
+        var q = new ConcurrentLinkedQueue<Integer>();
+        // remove(Object) scans from the head, so keep the queue small
+        var total = 10_000;
+        for (int i = 0; i < total; i++) {
+            q.offer(i);
+        }
+        var seen = new AtomicIntegerArray(total);
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        //when
+        var poller = executor.submit(() -> {
+            start.await();
+            Integer e;
+            while ((e = q.poll()) != null) {
+                seen.incrementAndGet(e);
+            }
+            return null;
+        });
+        var remover = executor.submit(() -> {
+            start.await();
+            for (int i = total - 1; i >= 0; i--) {
+                if (q.remove(i)) {
+                    seen.incrementAndGet(i);
+                }
+            }
+            return null;
+        });
+        start.countDown();
+        poller.get(30, TimeUnit.SECONDS);
+        remover.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        //then
+        assertTrue(q.isEmpty());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+    }
+
+    @RepeatedTest(4)
+    void shouldDeliverEveryElementOnceUnderContention() throws Exception {
+        //given
+        var q = new ConcurrentLinkedQueue<Integer>();
+        var total = PRODUCERS * PER_PRODUCER;
+        var seen = new AtomicIntegerArray(total);
+        var polled = new AtomicInteger();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS + CONSUMERS);
+        var futures = new ArrayList<Future<?>>();
+
+        //when
+        for (int p = 0; p < PRODUCERS; p++) {
+            int base = p * PER_PRODUCER;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    q.offer(base + i);
+                }
+                return null;
+            }));
+        }
+        for (int c = 0; c < CONSUMERS; c++) {
+            futures.add(executor.submit(() -> {
+                var last = new int[PRODUCERS];
+                Arrays.fill(last, -1);
+                start.await();
+                while (polled.get() < total) {
+                    var e = q.poll();
+                    if (e == null) {
+                        continue;
+                    }
+
+                    // every consumer observes elements of the same producer in FIFO order
+                    var producer = e / PER_PRODUCER;
+                    assertThat(e).isGreaterThan(last[producer]);
+                    last[producer] = e;
+                    seen.incrementAndGet(e);
+                    polled.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertTrue(q.isEmpty());
+        for (int i = 0; i < total; i++) {
+            assertEquals(1, seen.get(i), "element " + i);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConcurrentPriorityQueueTest {
+    private static final int THREADS = 4;
+    private static final int PER_THREAD = 20_000;
+
+    private static ConcurrentPriorityQueue<Integer> create(String mode) {
+        return "strict".equals(mode)
+                ? ConcurrentPriorityQueue.strict()
+                : ConcurrentPriorityQueue.relaxed(Comparator.naturalOrder(), 8);
+    }
+
+    @Test
+    void strictShouldPollInOrder() {
+        //given
+        var q = ConcurrentPriorityQueue.<Integer>strict();
+        var expected = new java.util.PriorityQueue<Integer>(Comparator.reverseOrder());
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            int e = RandomUtils.nextInt(0, 100);
+            q.offer(e);
+            expected.offer(e);
+        }
+
+        //then
+        assertEquals(1_000, q.size());
+        while (!expected.isEmpty()) {
+            assertEquals(expected.peek(), q.peek());
+            assertEquals(expected.poll(), q.poll());
+        }
+        assertNull(q.poll());
+        assertNull(q.peek());
+    }
+
+    @Test
+    void relaxedShouldPollEveryElement() {
+        //given
+        var q = ConcurrentPriorityQueue.relaxed(Comparator.<Integer>naturalOrder(), 4);
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            int e = RandomUtils.nextInt(0, 100);
+            q.offer(e);
+            expected.add(e);
+        }
+
+        //when
+        assertEquals(1_000, q.size());
+        assertEquals(expected.stream().max(Comparator.naturalOrder()).orElseThrow(), q.peek());
+        var polled = new ArrayList<Integer>();
+        Integer e;
+        while ((e = q.poll()) != null) {
+            polled.add(e);
+        }
+
+        //then
+        assertThat(polled).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(q).isEmpty();
+    }
+
+    @Test
+    void relaxedShouldUseNaturalOrder() {
+        //given
+        var q = ConcurrentPriorityQueue.<Integer>relaxed();
+
+        //when
+        q.offer(1);
+        q.offer(3);
+        q.offer(2);
+
+        //then
+        assertEquals(3, q.peek());
+        assertThat(q).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void relaxedShouldRemoveElements() {
+        //given
+        var q = ConcurrentPriorityQueue.relaxed(Comparator.<Integer>naturalOrder(), 4);
+        for (int i = 0; i < 100; i++) {
+            q.offer(i);
+        }
+
+        //when
+        boolean removed = q.remove(99);
+        boolean missing = q.remove(100);
+        q.removeIf(e -> e % 2 == 0);
+
+        //then
+        assertThat(removed).isTrue();
+        assertThat(missing).isFalse();
+        assertEquals(49, q.size());
+        assertEquals(97, q.peek());
+        assertThat(q).allMatch(e -> e % 2 == 1).doesNotContain(99);
+    }
+
+    @Test
+    void relaxedShouldRejectSingleQueue() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConcurrentPriorityQueue.relaxed(Comparator.<Integer>naturalOrder(), 1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"strict", "relaxed"})
+    void shouldNotLoseElementsUnderConcurrentOfferAndPoll(String mode) throws Exception {
+        //given
+        var q = create(mode);
+        var pool = Executors.newFixedThreadPool(2 * THREADS);
+        var start = new CountDownLatch(1);
+        var remaining = new AtomicInteger(THREADS * PER_THREAD);
+        var polled = new ConcurrentLinkedQueue<Integer>();
+        var futures = new ArrayList<Future<?>>();
+
+        //when
+        for (int t = 0; t < THREADS; t++) {
+            int base = t * PER_THREAD;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < PER_THREAD; i++) {
+                    q.offer(base + i);
+                }
+                return null;
+            }));
+            futures.add(pool.submit(() -> {
+                start.await();
+                while (remaining.get() > 0) {
+                    var e = q.poll();
+                    if (e != null) {
+                        polled.add(e);
+                        remaining.decrementAndGet();
+                    } else {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (var f : futures) {
+            f.get(1, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        //then
+        assertEquals(THREADS * PER_THREAD, polled.size());
+        assertEquals(THREADS * PER_THREAD, new HashSet<>(polled).size());
+        assertThat(q).isEmpty();
+    }
+}
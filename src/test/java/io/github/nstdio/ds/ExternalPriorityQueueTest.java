@@ -0,0 +1,263 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExternalPriorityQueueTest {
+    private static final ExternalPriorityQueue.Serializer<Integer> INT = new ExternalPriorityQueue.Serializer<>() {
+        @Override
+        public void write(Integer e, DataOutput out) throws IOException {
+            out.writeInt(e);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * Counts the writes and reads and fails the ones with {@link #failAt} and {@link #failReadAt} numbers.
+     */
+    private static final class CountingSerializer implements ExternalPriorityQueue.Serializer<Integer> {
+        long writes;
+        long failAt = -1;
+        long reads;
+        long failReadAt = -1;
+
+        @Override
+        public void write(Integer e, DataOutput out) throws IOException {
+            if (++writes == failAt) {
+                throw new IOException("Disk is full");
+            }
+            out.writeInt(e);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            if (++reads == failReadAt) {
+                throw new IOException("Bad sector");
+            }
+            return in.readInt();
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void shouldPollInOrderAcrossRuns() throws IOException {
+        //given
+        var expected = new java.util.PriorityQueue<Integer>(Comparator.reverseOrder());
+
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), INT, 100, dir)) {
+            //when
+            for (int i = 0; i < 10_000; i++) {
+                int e = RandomUtils.nextInt(0, 1_000_000);
+                q.offer(e);
+                expected.offer(e);
+            }
+
+            //then
+            assertThat(q.runs()).isPositive().isLessThanOrEqualTo(ExternalPriorityQueue.MAX_RUNS);
+            assertEquals(10_000, q.size());
+            while (!expected.isEmpty()) {
+                assertEquals(expected.peek(), q.peek());
+                assertEquals(expected.poll(), q.poll());
+            }
+            assertNull(q.poll());
+            assertThat(files()).isZero();
+        }
+    }
+
+    @Test
+    void shouldInterleaveOfferAndPoll() throws IOException {
+        //given
+        var expected = new java.util.PriorityQueue<Integer>(Comparator.reverseOrder());
+
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), INT, 7, dir)) {
+            for (int i = 0; i < 20_000; i++) {
+                //when
+                if (RandomUtils.nextInt(0, 3) < 2) {
+                    int e = RandomUtils.nextInt(0, 1_000);
+                    q.offer(e);
+                    expected.offer(e);
+                } else {
+                    assertEquals(expected.poll(), q.poll());
+                }
+
+                //then
+                assertEquals(expected.size(), q.size());
+            }
+        }
+        assertThat(files()).isZero();
+    }
+
+    @Test
+    void shouldDeleteRunsOnClear() throws IOException {
+        //given
+        var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), INT, 2, dir);
+        for (int i = 0; i < 10; i++) {
+            q.offer(i);
+        }
+        assertThat(files()).isPositive();
+
+        //when
+        q.clear();
+
+        //then
+        assertThat(q).isEmpty();
+        assertThat(files()).isZero();
+
+        //when
+        q.close();
+
+        //then
+        assertThatIllegalStateException().isThrownBy(() -> q.offer(1));
+    }
+
+    @Test
+    void shouldKeepElementsWhenSpillFails() throws IOException {
+        //given
+        var serializer = new CountingSerializer();
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), serializer, 4, dir)) {
+            for (int i = 0; i < 4; i++) {
+                q.offer(i);
+            }
+            serializer.failAt = 3;
+
+            //when
+            assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> q.offer(4));
+
+            //then
+            assertEquals(4, q.size());
+            assertThat(files()).isZero();
+            q.offer(4);
+            assertThat(pollAll(q)).containsExactly(4, 3, 2, 1, 0);
+        }
+    }
+
+    @Test
+    void shouldReturnPolledElementWhenReadingRunFails() throws IOException {
+        //given
+        var serializer = new CountingSerializer();
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), serializer, 4, dir)) {
+            for (int i = 0; i < 5; i++) {
+                q.offer(i);
+            }
+            serializer.failReadAt = serializer.reads + 1;
+
+            //when
+            var first = q.poll();
+            var second = q.poll();
+
+            //then
+            assertEquals(4, first);
+            assertEquals(3, second);
+            assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(q::poll);
+            assertEquals(0, q.size());
+            assertNull(q.poll());
+            assertThat(files()).isZero();
+        }
+    }
+
+    @Test
+    void shouldKeepRunsWhenCompactionFails() throws IOException {
+        //given
+        var serializer = new CountingSerializer();
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), serializer, 1, dir)) {
+            for (int i = 0; i <= ExternalPriorityQueue.MAX_RUNS; i++) {
+                q.offer(i);
+            }
+            serializer.failAt = serializer.writes + 10;
+
+            //when
+            assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(() -> q.offer(-1));
+
+            //then
+            assertEquals(ExternalPriorityQueue.MAX_RUNS + 1, q.size());
+            assertThat(pollAll(q))
+                    .hasSize(ExternalPriorityQueue.MAX_RUNS + 1)
+                    .isSortedAccordingTo(Comparator.reverseOrder());
+            assertThat(files()).isZero();
+        }
+    }
+
+    @Test
+    void shouldRewriteEveryElementLogarithmicNumberOfTimes() throws IOException {
+        //given
+        var serializer = new CountingSerializer();
+        int n = 50_000;
+
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), serializer, 1, dir)) {
+            //when
+            for (int i = 0; i < n; i++) {
+                q.offer(RandomUtils.nextInt());
+            }
+
+            //then
+            assertThat(q.runs()).isLessThanOrEqualTo(ExternalPriorityQueue.MAX_RUNS);
+            assertThat(serializer.writes).isLessThan(8L * n);
+            assertThat(pollAll(q)).hasSize(n).isSortedAccordingTo(Comparator.reverseOrder());
+        }
+    }
+
+    @Test
+    void shouldMeldWithoutIteration() throws IOException {
+        //given
+        var heap = PairingHeap.<Integer>naturalOrder();
+        try (var q = new ExternalPriorityQueue<>(Comparator.<Integer>naturalOrder(), INT, 2, dir)) {
+            for (int i = 0; i < 10; i++) {
+                q.offer(i);
+            }
+            assertThat(q).hasToString("ExternalPriorityQueue[size=10, runs=4]");
+
+            //when
+            heap.meld(q);
+
+            //then
+            assertThat(q).isEmpty();
+            assertEquals(10, heap.size());
+            assertEquals(9, heap.peek());
+
+            //when
+            q.meld(heap);
+
+            //then
+            assertThat(heap).isEmpty();
+            assertThat(pollAll(q)).containsExactly(9, 8, 7, 6, 5, 4, 3, 2, 1, 0);
+        }
+    }
+
+    private static List<Integer> pollAll(ExternalPriorityQueue<Integer> q) {
+        var ret = new ArrayList<Integer>();
+        Integer e;
+        while ((e = q.poll()) != null) {
+            ret.add(e);
+        }
+        return ret;
+    }
+
+    private long files() throws IOException {
+        try (var files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedPriorityQueueTest {
+
+    @Test
+    void shouldPollGreatestFirst() {
+        //given
+        var pq = IndexedPriorityQueue.<Integer>naturalOrder();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            pq.offer(RandomUtils.nextInt(0, 100));
+        }
+
+        //then
+        var polled = new ArrayList<Integer>();
+        while (!pq.isEmpty()) {
+            polled.add(pq.poll());
+        }
+        assertThat(polled).hasSize(100).isSortedAccordingTo(Comparator.reverseOrder());
+        assertNull(pq.poll());
+    }
+
+    @Test
+    void shouldMoveElementOnUpdate() {
+        //given
+        var pq = new IndexedPriorityQueue<Integer>(Comparator.reverseOrder());
+        var a = pq.insert(10);
+        var b = pq.insert(20);
+        pq.insert(30);
+
+        //when
+        pq.update(b, 5);
+
+        //then
+        assertEquals(5, pq.peek());
+        assertEquals(b, pq.peekHandle());
+
+        //when
+        pq.update(b, 40);
+        pq.update(a, 35);
+
+        //then
+        assertThat(pq).containsExactlyInAnyOrder(30, 35, 40);
+        assertEquals(30, pq.poll());
+        assertEquals(a, pq.pollHandle());
+        assertEquals(40, pq.poll());
+    }
+
+    @Test
+    void shouldRemoveByHandle() {
+        //given
+        var pq = IndexedPriorityQueue.<Integer>naturalOrder();
+        var handles = new ArrayList<IndexedPriorityQueue.Handle<Integer>>();
+        for (int i = 0; i < 50; i++) {
+            handles.add(pq.insert(i));
+        }
+
+        //when
+        for (int i = 0; i < 50; i += 2) {
+            assertTrue(pq.remove(handles.get(i)));
+        }
+
+        //then
+        assertFalse(pq.remove(handles.get(0)));
+        assertFalse(pq.contains(handles.get(0)));
+        assertTrue(pq.contains(handles.get(1)));
+        for (int i = 49; i > 0; i -= 2) {
+            assertEquals(i, pq.poll());
+        }
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    void shouldRejectForeignHandle() {
+        //given
+        var pq = IndexedPriorityQueue.<Integer>naturalOrder();
+        var other = IndexedPriorityQueue.<Integer>naturalOrder();
+        pq.insert(1);
+        var h = other.insert(2);
+
+        //when + then
+        assertThatIllegalArgumentException().isThrownBy(() -> pq.update(h, 3));
+        assertThatIllegalArgumentException().isThrownBy(() -> pq.remove(h));
+    }
+
+    @Test
+    void shouldStayOrderedUnderRandomOperations() {
+        //given
+        var pq = IndexedPriorityQueue.<Integer>naturalOrder();
+        var handles = new ArrayList<IndexedPriorityQueue.Handle<Integer>>();
+        var expected = new ArrayList<Integer>();
+
+        for (int op = 0; op < 10_000; op++) {
+            //when
+            int c = RandomUtils.nextInt(0, 4);
+            if (c < 2 || handles.isEmpty()) {
+                int v = RandomUtils.nextInt(0, 1_000);
+                handles.add(pq.insert(v));
+                expected.add(v);
+            } else if (c == 2) {
+                var h = handles.get(RandomUtils.nextInt(0, handles.size()));
+                int v = RandomUtils.nextInt(0, 1_000);
+                expected.remove(h.value());
+                expected.add(v);
+                pq.update(h, v);
+            } else {
+                var h = handles.remove(RandomUtils.nextInt(0, handles.size()));
+                expected.remove(h.value());
+                pq.remove(h);
+            }
+
+            //then
+            assertEquals(expected.size(), pq.size());
+            assertEquals(Collections.max(expected), pq.peek());
+        }
+    }
+}
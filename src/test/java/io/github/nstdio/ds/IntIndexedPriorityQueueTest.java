@@ -0,0 +1,124 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIndexedPriorityQueueTest {
+
+    @Test
+    void shouldRunDijkstra() {
+        //given
+        long[][] w = {
+                {0, 7, 9, 0, 0, 14},
+                {7, 0, 10, 15, 0, 0},
+                {9, 10, 0, 11, 0, 2},
+                {0, 15, 11, 0, 6, 0},
+                {0, 0, 0, 6, 0, 9},
+                {14, 0, 2, 0, 9, 0},
+        };
+        var dist = new long[w.length];
+        var pq = new IntIndexedPriorityQueue(w.length);
+
+        //when
+        pq.offer(0, 0);
+        while (!pq.isEmpty()) {
+            long d = pq.peekKey();
+            int u = pq.poll();
+            dist[u] = d;
+            for (int v = 0; v < w.length; v++) {
+                if (w[u][v] == 0 || v == 0 || dist[v] != 0) {
+                    continue;
+                }
+                long nd = d + w[u][v];
+                if (!pq.contains(v)) {
+                    pq.offer(v, nd);
+                } else if (nd < pq.key(v)) {
+                    pq.decreaseKey(v, nd);
+                }
+            }
+        }
+
+        //then
+        assertEquals(0, dist[0]);
+        assertEquals(7, dist[1]);
+        assertEquals(9, dist[2]);
+        assertEquals(20, dist[3]);
+        assertEquals(20, dist[4]);
+        assertEquals(11, dist[5]);
+    }
+
+    @Test
+    void shouldRejectWrongKeyDirection() {
+        //given
+        var pq = new IntIndexedPriorityQueue(4);
+        pq.offer(1, 10);
+
+        //when + then
+        assertThatIllegalArgumentException().isThrownBy(() -> pq.decreaseKey(1, 11));
+        assertThatIllegalArgumentException().isThrownBy(() -> pq.increaseKey(1, 9));
+        assertThatIllegalArgumentException().isThrownBy(() -> pq.offer(1, 5));
+        assertThatThrownBy(() -> pq.decreaseKey(2, 1)).isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> pq.offer(4, 1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void shouldRemoveById() {
+        //given
+        var pq = new IntIndexedPriorityQueue(10);
+        for (int i = 0; i < 10; i++) {
+            pq.offer(i, 100 - i);
+        }
+
+        //when
+        assertTrue(pq.remove(9));
+        assertTrue(pq.remove(3));
+
+        //then
+        assertFalse(pq.remove(3));
+        assertEquals(8, pq.size());
+        assertEquals(8, pq.poll());
+        assertEquals(7, pq.poll());
+        assertEquals(6, pq.poll());
+        assertEquals(5, pq.poll());
+        assertEquals(4, pq.poll());
+        assertEquals(2, pq.poll());
+    }
+
+    @Test
+    void shouldStayOrderedUnderRandomOperations() {
+        //given
+        int capacity = 200;
+        var pq = new IntIndexedPriorityQueue(capacity);
+        var expected = new HashMap<Integer, Long>();
+
+        for (int op = 0; op < 10_000; op++) {
+            //when
+            int id = RandomUtils.nextInt(0, capacity);
+            long key = RandomUtils.nextLong(0, 1_000);
+            int c = RandomUtils.nextInt(0, 4);
+            if (c < 2) {
+                pq.update(id, key);
+                expected.put(id, key);
+            } else if (c == 2) {
+                assertEquals(expected.remove(id) != null, pq.remove(id));
+            } else if (!expected.isEmpty()) {
+                long min = Collections.min(expected.values());
+                assertEquals(min, pq.peekKey());
+                assertEquals(min, expected.remove(pq.poll()).longValue());
+            }
+
+            //then
+            assertEquals(expected.size(), pq.size());
+        }
+    }
+}
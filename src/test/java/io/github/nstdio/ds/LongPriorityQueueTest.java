@@ -0,0 +1,74 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LongPriorityQueueTest {
+
+    @Test
+    void shouldPollLeastPriorityFirst() {
+        //given
+        var pq = new LongPriorityQueue<String>();
+        var priorities = new ArrayList<Long>();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            long p = RandomUtils.nextLong(0, 10_000) - 5_000;
+            priorities.add(p);
+            pq.offer(p, String.valueOf(p));
+        }
+
+        //then
+        priorities.sort(null);
+        assertEquals(1_000, pq.size());
+        for (long p : priorities) {
+            assertEquals(p, pq.peekPriority());
+            assertEquals(String.valueOf(p), pq.poll());
+        }
+        assertNull(pq.peek());
+        assertNull(pq.poll());
+        assertThatThrownBy(pq::peekPriority).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void shouldDrainExpired() {
+        //given
+        var pq = new LongPriorityQueue<Integer>(0);
+        for (int i = 9; i >= 0; i--) {
+            pq.offer(i * 10L, i);
+        }
+        var expired = new ArrayList<Integer>();
+
+        //when
+        int n = pq.drainUntil(35, expired::add);
+
+        //then
+        assertEquals(4, n);
+        assertThat(expired).containsExactly(0, 1, 2, 3);
+        assertEquals(40, pq.peekPriority());
+        assertEquals(6, pq.size());
+    }
+
+    @Test
+    void shouldClear() {
+        //given
+        var pq = new LongPriorityQueue<Integer>();
+        pq.offer(1, 1);
+        pq.offer(2, 2);
+
+        //when
+        pq.clear();
+
+        //then
+        assertThat(pq.isEmpty()).isTrue();
+        assertNull(pq.poll());
+    }
+}
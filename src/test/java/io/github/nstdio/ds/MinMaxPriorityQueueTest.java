@@ -0,0 +1,113 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MinMaxPriorityQueueTest {
+
+    @Test
+    void shouldPollBothEnds() {
+        //given
+        var q = MinMaxPriorityQueue.<Integer>naturalOrder();
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            int e = RandomUtils.nextInt(0, 300);
+            q.offer(e);
+            expected.add(e);
+        }
+        expected.sort(null);
+
+        //when + then
+        while (!expected.isEmpty()) {
+            assertEquals(expected.get(0), q.peekMin());
+            assertEquals(expected.get(expected.size() - 1), q.peekMax());
+            if (RandomUtils.nextBoolean()) {
+                assertEquals(expected.remove(0), q.pollMin());
+            } else {
+                assertEquals(expected.remove(expected.size() - 1), q.poll());
+            }
+            assertEquals(expected.size(), q.size());
+        }
+        assertNull(q.pollMin());
+        assertNull(q.pollMax());
+        assertNull(q.peekMin());
+        assertNull(q.peekMax());
+    }
+
+    @Test
+    void shouldHandleSmallSizes() {
+        //given
+        var q = MinMaxPriorityQueue.<Integer>naturalOrder();
+
+        //when
+        q.offer(2);
+
+        //then
+        assertEquals(2, q.peekMin());
+        assertEquals(2, q.peekMax());
+
+        //when
+        q.offer(1);
+
+        //then
+        assertEquals(1, q.peekMin());
+        assertEquals(2, q.peekMax());
+        assertEquals(2, q.pollMax());
+        assertEquals(1, q.pollMax());
+        assertThat(q).isEmpty();
+    }
+
+    @Test
+    void shouldStayOrderedUnderRandomOperations() {
+        //given
+        var q = MinMaxPriorityQueue.<Integer>naturalOrder();
+        var expected = new TreeMap<Integer, Integer>();
+        int size = 0;
+
+        for (int op = 0; op < 20_000; op++) {
+            //when
+            int c = RandomUtils.nextInt(0, 6);
+            int e = RandomUtils.nextInt(0, 500);
+            if (c < 3) {
+                q.offer(e);
+                expected.merge(e, 1, Integer::sum);
+                size++;
+            } else if (size > 0 && c == 3) {
+                assertEquals(expected.firstKey(), q.pollMin());
+                decrement(expected, expected.firstKey());
+                size--;
+            } else if (size > 0 && c == 4) {
+                assertEquals(expected.lastKey(), q.pollMax());
+                decrement(expected, expected.lastKey());
+                size--;
+            } else if (c == 5) {
+                boolean present = expected.containsKey(e);
+                assertEquals(present, q.remove(e));
+                if (present) {
+                    decrement(expected, e);
+                    size--;
+                }
+            }
+
+            //then
+            assertEquals(size, q.size());
+            if (size > 0) {
+                assertEquals(expected.firstKey(), q.peekMin());
+                assertEquals(expected.lastKey(), q.peekMax());
+            }
+        }
+    }
+
+    private static void decrement(TreeMap<Integer, Integer> counts, int e) {
+        if (counts.merge(e, -1, Integer::sum) == 0) {
+            counts.remove(e);
+        }
+    }
+}
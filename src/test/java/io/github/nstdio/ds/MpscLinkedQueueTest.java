@@ -0,0 +1,116 @@
+package io.github.nstdio.ds;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+class MpscLinkedQueueTest {
+    private static final int PRODUCERS = 4;
+    private static final int PER_PRODUCER = 50_000;
+
+    @Test
+    void shouldPollInInsertionOrder() {
+        //given
+        var q = new MpscLinkedQueue<Integer>();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            q.offer(i);
+        }
+
+        //then
+        assertEquals(100, q.size());
+        assertThat(q).startsWith(0, 1, 2);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, q.peek());
+            assertEquals(i, q.poll());
+        }
+        assertNull(q.poll());
+        assertTrue(q.isEmpty());
+        assertEquals(0, q.size());
+    }
+
+    @Test
+    void shouldDrainUpToLimit() {
+        //given
+        var q = new MpscLinkedQueue<Integer>();
+        q.addAll(List.of(1, 2, 3, 4, 5));
+        var drained = new ArrayList<Integer>();
+
+        //when
+        var count = q.drain(drained::add, 3);
+
+        //then
+        assertEquals(3, count);
+        assertThat(drained).containsExactly(1, 2, 3);
+        assertThat(q).containsExactly(4, 5);
+    }
+
+    @Test
+    void shouldNotPermitNull() {
+        //given
+        var q = new MpscLinkedQueue<Integer>();
+
+        //when + then
+        assertThatNullPointerException().isThrownBy(() -> q.offer(null));
+    }
+
+    @RepeatedTest(4)
+    void shouldPreserveProducerOrderUnderContention() throws Exception {
+        //given
+        var q = new MpscLinkedQueue<Integer>();
+        var start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        var futures = new ArrayList<Future<?>>();
+        var last = new int[PRODUCERS];
+        Arrays.fill(last, -1);
+
+        //when
+        for (int p = 0; p < PRODUCERS; p++) {
+            int base = p * PER_PRODUCER;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < PER_PRODUCER; i++) {
+                    q.offer(base + i);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        var polled = 0;
+        while (polled < PRODUCERS * PER_PRODUCER) {
+            polled += q.drain(e -> {
+                // the single consumer observes every producer's elements without gaps
+                var producer = e / PER_PRODUCER;
+                var expected = last[producer] == -1 ? producer * PER_PRODUCER : last[producer] + 1;
+                assertEquals(expected, e);
+                last[producer] = e;
+            }, 256);
+        }
+        for (var f : futures) {
+            f.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertNull(q.poll());
+        for (int p = 0; p < PRODUCERS; p++) {
+            assertEquals((p + 1) * PER_PRODUCER - 1, last[p]);
+        }
+    }
+}
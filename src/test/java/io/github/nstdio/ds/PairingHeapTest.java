@@ -0,0 +1,94 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PairingHeapTest {
+
+    @Test
+    void shouldPollGreatestFirst() {
+        //given
+        var heap = PairingHeap.<Integer>naturalOrder();
+        var expected = new ArrayList<Integer>();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            int e = RandomUtils.nextInt(0, 500);
+            heap.offer(e);
+            expected.add(e);
+        }
+
+        //then
+        expected.sort(Comparator.reverseOrder());
+        assertThat(heap).hasSize(1_000).containsExactlyInAnyOrderElementsOf(expected);
+        for (Integer e : expected) {
+            assertEquals(e, heap.peek());
+            assertEquals(e, heap.poll());
+        }
+        assertNull(heap.poll());
+    }
+
+    @Test
+    void shouldMeldPairingHeaps() {
+        //given
+        var a = PairingHeap.<Integer>naturalOrder();
+        var b = PairingHeap.<Integer>naturalOrder();
+        for (int i = 0; i < 10; i++) {
+            a.offer(i * 2);
+            b.offer(i * 2 + 1);
+        }
+
+        //when
+        a.meld(b);
+
+        //then
+        assertThat(b).isEmpty();
+        assertEquals(20, a.size());
+        for (int i = 19; i >= 0; i--) {
+            assertEquals(i, a.poll());
+        }
+    }
+
+    @Test
+    void shouldMeldOtherHeaps() {
+        //given
+        var a = PairingHeap.<Integer>naturalOrder();
+        var b = new PriorityQueue<Integer>();
+        a.offer(1);
+        b.offer(3);
+        b.offer(2);
+
+        //when
+        a.meld(b);
+
+        //then
+        assertThat(b).isEmpty();
+        assertEquals(3, a.poll());
+        assertEquals(2, a.poll());
+        assertEquals(1, a.poll());
+        assertThatIllegalArgumentException().isThrownBy(() -> a.meld(a));
+    }
+
+    @Test
+    void shouldNotOverflowStackOnLongSiblingList() {
+        //given
+        var heap = PairingHeap.<Integer>naturalOrder();
+        int n = 1_000_000;
+        for (int i = 0; i < n; i++) {
+            heap.offer(i);
+        }
+
+        //when + then
+        for (int i = n - 1; i >= n - 100; i--) {
+            assertEquals(i, heap.poll());
+        }
+    }
+}
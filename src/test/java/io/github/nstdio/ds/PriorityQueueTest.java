@@ -2,12 +2,19 @@ package io.github.nstdio.ds;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Queue;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class PriorityQueueTest {
@@ -56,6 +63,189 @@ class PriorityQueueTest {
             assertEquals(i, pq.poll());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8, 16, 64})
+    void shouldPollInOrderForEveryArity(int arity) {
+        //given
+        var pq = new PriorityQueue<Integer>(arity);
+        var expected = new java.util.PriorityQueue<Integer>(Comparator.reverseOrder());
+
+        //when
+        for (int i = 0; i < 5_000; i++) {
+            var e = RandomUtils.nextInt(0, 1_000);
+            pq.offer(e);
+            expected.offer(e);
+        }
+
+        //then
+        assertEquals(arity, pq.arity());
+        assertEquals(expected.size(), pq.size());
+        while (!expected.isEmpty()) {
+            assertEquals(expected.peek(), pq.peek());
+            assertEquals(expected.poll(), pq.poll());
+        }
+        assertThat(pq.poll()).isNull();
+    }
+
+    @Test
+    void shouldIterateOverEveryElement() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+        offerUniform(pq, 99);
+
+        //when
+        var elements = new ArrayList<>(pq);
+
+        //then
+        assertThat(elements).hasSize(100).containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(0, 99).boxed().collect(toList()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 6, 128})
+    void shouldRejectInvalidArity(int arity) {
+        assertThatIllegalArgumentException().isThrownBy(() -> new PriorityQueue<Integer>(arity));
+    }
+
+    @Test
+    void shouldKeepHeapOrderAfterRemove() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+        offerUniform(pq, 99);
+
+        //when
+        for (int i = 0; i < 100; i += 3) {
+            assertThat(pq.remove(i)).isTrue();
+        }
+
+        //then
+        assertThat(pq.remove(0)).isFalse();
+        assertThat(pq.contains(1)).isTrue();
+        for (int i = 99; i >= 0; i--) {
+            if (i % 3 != 0) {
+                assertEquals(i, pq.poll());
+            }
+        }
+        assertThat(pq).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 16})
+    void shouldHeapifyCollection(int arity) {
+        //given
+        var elements = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            elements.add(RandomUtils.nextInt(0, 500));
+        }
+
+        //when
+        var pq = new PriorityQueue<>(Comparator.<Integer>naturalOrder(), arity, elements);
+
+        //then
+        elements.sort(Comparator.reverseOrder());
+        for (Integer e : elements) {
+            assertEquals(e, pq.poll());
+        }
+    }
+
+    @Test
+    void shouldOfferAllInBatches() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+        var expected = new java.util.PriorityQueue<Integer>(Comparator.reverseOrder());
+
+        //when
+        for (int batch = 0; batch < 50; batch++) {
+            var elements = new ArrayList<Integer>();
+            for (int i = RandomUtils.nextInt(0, 100); i > 0; i--) {
+                elements.add(RandomUtils.nextInt(0, 1_000));
+            }
+            pq.offerAll(elements);
+            expected.addAll(elements);
+
+            //then
+            assertEquals(expected.size(), pq.size());
+            assertEquals(expected.peek(), pq.peek());
+        }
+        while (!expected.isEmpty()) {
+            assertEquals(expected.poll(), pq.poll());
+        }
+    }
+
+    @Test
+    void shouldReplaceHead() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+
+        //when + then
+        assertThat(pq.replaceHead(5)).isNull();
+        offerUniform(pq, 9);
+        assertEquals(9, pq.replaceHead(3));
+        assertEquals(8, pq.peek());
+        assertEquals(11, pq.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 4, 8})
+    void shouldIterateSortedWithoutPolling(int arity) {
+        //given
+        var pq = new PriorityQueue<Integer>(arity);
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 1_000; i++) {
+            int e = RandomUtils.nextInt(0, 300);
+            pq.offer(e);
+            expected.add(e);
+        }
+
+        //when
+        var sorted = new ArrayList<Integer>();
+        pq.sortedIterator().forEachRemaining(sorted::add);
+
+        //then
+        expected.sort(Comparator.reverseOrder());
+        assertThat(sorted).isEqualTo(expected);
+        assertEquals(1_000, pq.size());
+        assertEquals(expected.get(0), pq.peek());
+    }
+
+    @Test
+    void shouldFailSortedIteratorOnModification() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+        offerUniform(pq, 10);
+        var it = pq.sortedIterator();
+        it.next();
+
+        //when
+        pq.offer(100);
+
+        //then
+        assertThatThrownBy(it::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void shouldDrainUpToMax() {
+        //given
+        var pq = new PriorityQueue<Integer>();
+        offerUniform(pq, 9);
+        var drained = new ArrayList<Integer>();
+
+        //when
+        int n = pq.drainTo(drained, 3);
+
+        //then
+        assertEquals(3, n);
+        assertThat(drained).containsExactly(9, 8, 7);
+        assertEquals(7, pq.size());
+
+        //when
+        n = pq.drainTo(drained);
+
+        //then
+        assertEquals(7, n);
+        assertThat(drained).hasSize(10).isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(pq).isEmpty();
+    }
+
     private void offerUniform(Queue<Integer> pq, int size) {
         for (int i = 0; i <= size; i++)
             pq.offer(i);
@@ -0,0 +1,117 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.ToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RadixHeapTest {
+
+    @Test
+    void shouldPollLeastKeyFirst() {
+        //given
+        var heap = new RadixHeap<Long>(Long::longValue);
+        var expected = new ArrayList<Long>();
+
+        //when
+        for (int i = 0; i < 1_000; i++) {
+            long e = RandomUtils.nextLong(0, Long.MAX_VALUE) - Long.MAX_VALUE / 2;
+            heap.offer(e);
+            expected.add(e);
+        }
+
+        //then
+        expected.sort(null);
+        assertThat(heap).hasSize(1_000).containsExactlyInAnyOrderElementsOf(expected);
+        for (Long e : expected) {
+            assertEquals(e.longValue(), heap.peekKey());
+            assertEquals(e, heap.poll());
+        }
+        assertNull(heap.poll());
+    }
+
+    @Test
+    void shouldSupportMonotoneInsertions() {
+        //given
+        var heap = new RadixHeap<Long>(Long::longValue);
+        var expected = new java.util.PriorityQueue<Long>();
+        heap.offer(0L);
+        expected.offer(0L);
+
+        //when
+        for (int i = 0; i < 10_000; i++) {
+            long min = heap.poll();
+            assertEquals(expected.poll().longValue(), min);
+            for (int j = RandomUtils.nextInt(0, 3); j >= 0; j--) {
+                long e = min + RandomUtils.nextLong(0, 1_000);
+                heap.offer(e);
+                expected.offer(e);
+            }
+
+            //then
+            assertEquals(expected.size(), heap.size());
+            assertEquals(expected.peek(), heap.peek());
+        }
+    }
+
+    @Test
+    void shouldRejectKeyLessThanLastHead() {
+        //given
+        var heap = new RadixHeap<Long>(Long::longValue);
+        heap.offer(10L);
+        heap.offer(20L);
+
+        //when
+        heap.poll();
+
+        //then
+        assertThatIllegalArgumentException().isThrownBy(() -> heap.offer(9L));
+        heap.offer(10L);
+        assertEquals(10L, heap.poll().longValue());
+    }
+
+    @Test
+    void shouldKeepBothHeapsWhenMeldIsRejected() {
+        //given
+        ToLongFunction<Long> key = Long::longValue;
+        var x = new RadixHeap<>(key);
+        x.offer(10L);
+        x.offer(20L);
+        x.poll();
+        var y = new RadixHeap<>(key);
+        y.offer(5L);
+        y.offer(30L);
+
+        //when
+        assertThatIllegalArgumentException().isThrownBy(() -> x.meld(y));
+
+        //then
+        assertThat(x).containsExactly(20L);
+        assertThat(y).containsExactlyInAnyOrder(5L, 30L);
+    }
+
+    @Test
+    void shouldLeaveRejectedElementInOtherHeap() {
+        //given
+        var x = new RadixHeap<Long>(Long::longValue);
+        x.offer(10L);
+        x.poll();
+        var y = new PairingHeap<Long>(Comparator.naturalOrder());
+        y.offer(5L);
+        y.offer(30L);
+
+        //when
+        assertThatIllegalArgumentException().isThrownBy(() -> x.meld(y));
+
+        //then
+        assertThat(x).containsExactly(30L);
+        assertThat(y).containsExactly(5L);
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    @Test
+    void shouldFireOnDeadline() {
+        //given
+        var wheel = new TimingWheel<String>(10, 0);
+        wheel.schedule(25, "a");
+        wheel.schedule(30, "b");
+        wheel.schedule(1_000_000, "c");
+        var fired = new ArrayList<String>();
+
+        //when + then
+        assertEquals(0, wheel.advance(29, fired::add));
+        assertEquals(2, wheel.advance(30, fired::add));
+        assertThat(fired).containsExactlyInAnyOrder("a", "b");
+        assertEquals(1, wheel.size());
+
+        assertEquals(0, wheel.advance(999_999, fired::add));
+        assertEquals(1, wheel.advance(1_000_005, fired::add));
+        assertThat(fired).containsExactlyInAnyOrder("a", "b", "c");
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    void shouldNotFireCancelled() {
+        //given
+        var wheel = new TimingWheel<Integer>(1, 8, 0);
+        var timeouts = new ArrayList<TimingWheel.Timeout<Integer>>();
+        for (int i = 0; i < 100; i++) {
+            timeouts.add(wheel.schedule(i * 7, i));
+        }
+
+        //when
+        for (int i = 0; i < 100; i += 2) {
+            assertTrue(timeouts.get(i).cancel());
+        }
+
+        //then
+        assertFalse(timeouts.get(0).cancel());
+        assertTrue(timeouts.get(0).isCancelled());
+        assertEquals(50, wheel.size());
+        var fired = new ArrayList<Integer>();
+        wheel.advance(700, fired::add);
+        assertThat(fired).hasSize(50).allMatch(i -> i % 2 == 1);
+        assertTrue(timeouts.get(1).isExpired());
+        assertFalse(timeouts.get(1).cancel());
+    }
+
+    @Test
+    void shouldFireScheduledFromCallbackOnNextTick() {
+        //given
+        var wheel = new TimingWheel<String>(1, 0);
+        wheel.schedule(5, "first");
+        var fired = new ArrayList<String>();
+
+        //when
+        wheel.advance(5, e -> {
+            fired.add(e);
+            wheel.schedule(0, "second");
+        });
+
+        //then
+        assertThat(fired).containsExactly("first");
+        wheel.advance(6, fired::add);
+        assertThat(fired).containsExactly("first", "second");
+    }
+
+    @Test
+    void shouldNeverFireEarlyUnderRandomSchedule() {
+        //given
+        long tick = 3;
+        var wheel = new TimingWheel<Integer>(tick, 16, 0);
+        var deadlines = new HashMap<Integer, Long>();
+        long now = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            //when
+            long deadline = now + RandomUtils.nextLong(0, 100_000);
+            wheel.schedule(deadline, i);
+            deadlines.put(i, deadline);
+            now += RandomUtils.nextLong(0, 50);
+            long at = now;
+
+            //then
+            wheel.advance(at, e -> assertThat(deadlines.remove(e)).isLessThanOrEqualTo(at));
+            assertThat(deadlines.values()).allMatch(d -> d > at - tick);
+        }
+        assertEquals(deadlines.size(), wheel.size());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimingWheel<>(0, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new TimingWheel<>(1, 3, 0));
+    }
+}
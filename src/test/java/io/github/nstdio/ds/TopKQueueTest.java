@@ -0,0 +1,99 @@
+package io.github.nstdio.ds;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopKQueueTest {
+
+    @Test
+    void shouldKeepGreatestElements() {
+        //given
+        var top = TopKQueue.<Integer>naturalOrder(3);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            top.offer(i);
+        }
+
+        //then
+        assertEquals(3, top.size());
+        assertEquals(7, top.peekWeakest());
+        assertThat(top.toSortedList()).containsExactly(9, 8, 7);
+        assertFalse(top.offer(7));
+        assertTrue(top.offer(10));
+        assertThat(top.toSortedList()).containsExactly(10, 9, 8);
+    }
+
+    @Test
+    void shouldSelectTopKOfRandomCandidates() {
+        //given
+        int k = 100;
+        var top = new TopKQueue<Integer>(k, Comparator.reverseOrder());
+        var candidates = new ArrayList<Integer>();
+        for (int i = 0; i < 10_000; i++) {
+            candidates.add(RandomUtils.nextInt(0, 1_000_000));
+        }
+
+        //when
+        top.offerAll(candidates.subList(0, 50));
+        top.offerAll(candidates.subList(50, candidates.size()));
+
+        //then
+        candidates.sort(null);
+        assertThat(top.toSortedList()).isEqualTo(candidates.subList(0, k));
+        assertThat(top).hasSize(k);
+    }
+
+    @Test
+    void shouldKeepAllWhenFewerThanK() {
+        //given
+        var top = TopKQueue.<Integer>naturalOrder(10);
+
+        //when
+        top.offerAll(List.of(3, 1, 2));
+
+        //then
+        assertThat(top.toSortedList()).containsExactly(3, 2, 1);
+        assertEquals(1, top.peekWeakest());
+
+        //when
+        top.clear();
+
+        //then
+        assertNull(top.peekWeakest());
+        assertThat(top).isEmpty();
+    }
+
+    @Test
+    void shouldStayIntactWhenCandidatesContainNull() {
+        //given
+        var top = TopKQueue.<Integer>naturalOrder(10);
+        top.offer(7);
+
+        //when
+        assertThatNullPointerException().isThrownBy(() -> top.offerAll(Arrays.asList(1, null, 3)));
+
+        //then
+        assertEquals(1, top.size());
+        top.offer(5);
+        assertThat(top.toSortedList()).containsExactly(7, 5);
+    }
+
+    @Test
+    void shouldRejectNonPositiveK() {
+        assertThatIllegalArgumentException().isThrownBy(() -> TopKQueue.<Integer>naturalOrder(0));
+    }
+}
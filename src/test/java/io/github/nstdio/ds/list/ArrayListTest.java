@@ -1,8 +1,11 @@
 package io.github.nstdio.ds.list;
 
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,4 +42,77 @@ class ArrayListTest implements ListContract {
         assertThat(list.data())
                 .allMatch(Objects::isNull);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, ArrayList.PARALLEL_SORT_THRESHOLD, 100_000})
+    void shouldSortStable(int size) {
+        //given
+        var list = new ArrayList<int[]>();
+        for (int i = 0; i < size; i++) {
+            list.add(new int[]{RandomUtils.nextInt(0, 64), i});
+        }
+
+        //when
+        list.sort(Comparator.comparingInt(a -> a[0]));
+
+        //then
+        for (int i = 1; i < size; i++) {
+            var prev = list.get(i - 1);
+            var cur = list.get(i);
+            assertThat(prev[0] < cur[0] || prev[0] == cur[0] && prev[1] < cur[1]).isTrue();
+        }
+    }
+
+    @Test
+    void shouldRemoveIfInPlace() {
+        //given
+        var list = getImplChecked();
+        Lists.uniformFill(list, 1000);
+
+        //when
+        var removed = list.removeIf(e -> e % 3 != 0);
+
+        //then
+        assertThat(removed).isTrue();
+        assertEquals(334, list.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i * 3, list.get(i));
+        }
+        assertThat(list.data()).skip(list.size()).allMatch(Objects::isNull);
+        assertThat(list.removeIf(e -> e < 0)).isFalse();
+    }
+
+    @Test
+    void shouldKeepUntestedElementsWhenPredicateThrows() {
+        //given
+        var list = getImplChecked();
+        Lists.uniformFill(list, 10);
+
+        //when
+        try {
+            list.removeIf(e -> {
+                if (e == 5) throw new IllegalStateException();
+                return e % 2 == 0;
+            });
+        } catch (IllegalStateException ignored) {
+        }
+
+        //then
+        assertThat(list.toArray()).containsExactly(1, 3, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void shouldReplaceAll() {
+        //given
+        var list = getImplChecked();
+        Lists.uniformFill(list, 10);
+
+        //when
+        list.replaceAll(e -> e * e);
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i * i, list.get(i));
+        }
+    }
+}
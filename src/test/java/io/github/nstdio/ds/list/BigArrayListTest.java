@@ -0,0 +1,81 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class BigArrayListTest {
+
+    @Test
+    void shouldAddAndGetAcrossSegments() {
+        //given
+        var list = new BigArrayList<Integer>(2);
+        var size = 1025;
+
+        //when
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        //then
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(1000L, list.indexOf(1000));
+        assertEquals(-1L, list.indexOf(size));
+    }
+
+    @Test
+    void shouldIterateInOrder() {
+        //given
+        var list = new BigArrayList<Integer>(3);
+        list.addAll(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        var iterated = new ArrayList<Integer>();
+        var forEached = new ArrayList<Integer>();
+
+        //when
+        list.iterator().forEachRemaining(iterated::add);
+        list.forEach(forEached::add);
+
+        //then
+        assertThat(iterated).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(forEached).isEqualTo(iterated);
+    }
+
+    @Test
+    void shouldRemoveLastAndAddAgain() {
+        //given
+        var list = new BigArrayList<Integer>(2);
+        list.addAll(List.of(0, 1, 2, 3, 4));
+
+        //when
+        assertEquals(4, list.removeLast());
+        assertEquals(3, list.removeLast());
+        list.add(5);
+        list.add(6);
+        list.set(0, 7);
+
+        //then
+        assertThat(list).containsExactly(7, 1, 2, 5, 6);
+    }
+
+    @Test
+    void shouldThrowWhenOutOfBounds() {
+        //given
+        var list = new BigArrayList<Integer>();
+        list.add(1);
+
+        //when + then
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(-1));
+        list.clear();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(list::removeLast);
+    }
+}
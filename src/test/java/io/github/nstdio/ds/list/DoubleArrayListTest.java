@@ -0,0 +1,39 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleArrayListTest {
+
+    @Test
+    void shouldFindWithDoubleEqualsSemantics() {
+        //given
+        var list = new DoubleArrayList();
+
+        //when
+        list.addAll(new double[]{0.0, Double.NaN, -0.0});
+
+        //then
+        assertEquals(0, list.indexOf(0.0));
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(2, list.indexOf(-0.0));
+        assertThat(list.asList().contains(Double.NaN)).isTrue();
+    }
+
+    @Test
+    void shouldSortAndBinarySearch() {
+        //given
+        var list = new DoubleArrayList();
+        list.addAll(new double[]{2.5, Double.NaN, -1.5, 0.0, -0.0});
+
+        //when
+        list.sort();
+
+        //then
+        assertThat(list.toDoubleArray()).containsExactly(-1.5, -0.0, 0.0, 2.5, Double.NaN);
+        assertEquals(3, list.binarySearch(2.5));
+        assertEquals(4, list.binarySearch(Double.NaN));
+    }
+}
@@ -0,0 +1,35 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class GapBufferListTest implements ListContract {
+
+    @Override
+    public List<?> get() {
+        return new GapBufferList<>();
+    }
+
+    @Test
+    void shouldEditAroundMovingCursor() {
+        //given
+        var list = new GapBufferList<Character>();
+        for (char c : "hello world".toCharArray()) {
+            list.add(c);
+        }
+
+        //when
+        list.remove(5);
+        list.add(5, ',');
+        list.add(6, ' ');
+        list.addAll(0, List.of('>', ' '));
+        list.subList(list.size() - 5, list.size()).clear();
+        list.add('!');
+
+        //then
+        assertThat(list).containsExactly('>', ' ', 'h', 'e', 'l', 'l', 'o', ',', ' ', '!');
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+class IntArrayListTest {
+
+    @Test
+    void shouldAddAndGetInSameOrder() {
+        //given
+        var list = new IntArrayList();
+        var size = 4096;
+
+        //when
+        for (int i = 0; i < size; i++) {
+            list.addInt(i);
+        }
+
+        //then
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, list.getInt(i));
+        }
+    }
+
+    @Test
+    void shouldAddAllFromArray() {
+        //given
+        var list = new IntArrayList();
+        list.addInt(1);
+
+        //when
+        list.addAll(new int[]{2, 3, 4});
+        list.addAll(new int[]{5, 6, 7, 8, 9, 10, 11, 12, 13}, 1, 3);
+
+        //then
+        assertThat(list.toIntArray()).containsExactly(1, 2, 3, 4, 7, 8, 9);
+    }
+
+    @Test
+    void shouldAddAndRemoveAtIndex() {
+        //given
+        var list = new IntArrayList();
+        list.addAll(new int[]{0, 1, 2, 3});
+
+        //when
+        list.addInt(2, 5);
+        list.addInt(5, 6);
+        var removed = list.removeIntAt(0);
+
+        //then
+        assertEquals(0, removed);
+        assertThat(list.toIntArray()).containsExactly(1, 5, 2, 3, 6);
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBound() {
+        //given
+        var list = new IntArrayList();
+        list.addInt(1);
+
+        //when + then
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.getInt(1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.setInt(-1, 1));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.addInt(2, 1));
+    }
+
+    @RepeatedTest(16)
+    void shouldSortAndBinarySearch() {
+        //given
+        var list = new IntArrayList();
+        var size = RandomUtils.nextInt(1, 512);
+        for (int i = 0; i < size; i++) {
+            list.addInt(RandomUtils.nextInt(0, 1024) - 512);
+        }
+        var expected = list.toIntArray();
+        Arrays.sort(expected);
+
+        //when
+        list.sort();
+
+        //then
+        assertThat(list.toIntArray()).containsExactly(expected);
+        for (int e : expected) {
+            assertEquals(e, list.getInt(list.binarySearch(e)));
+        }
+        assertThat(list.binarySearch(1024)).isEqualTo(-(size + 1));
+    }
+
+    @Test
+    void shouldProvideListView() {
+        //given
+        var list = new IntArrayList();
+        List<Integer> view = list.asList();
+
+        //when
+        view.add(1);
+        view.addAll(List.of(2, 3));
+        list.addInt(4);
+        view.remove(Integer.valueOf(2));
+
+        //then
+        assertThat(view).containsExactly(1, 3, 4);
+        assertThat(view.indexOf(3)).isOne();
+        assertThat(view.contains(2)).isFalse();
+        assertThat(list.toIntArray()).containsExactly(1, 3, 4);
+    }
+}
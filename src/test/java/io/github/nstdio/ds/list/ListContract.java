@@ -19,6 +19,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -656,6 +658,171 @@ public interface ListContract {
         assertEquals(size, i);
     }
 
+    @Test
+    default void listIteratorShouldTraverseBothWays() {
+        //given
+        var list = get(4);
+        var it = list.listIterator(2);
+
+        //when + then
+        assertEquals(2, it.nextIndex());
+        assertEquals(2, it.next());
+        assertEquals(3, it.next());
+        assertFalse(it.hasNext());
+        assertEquals(3, it.previous());
+        assertEquals(2, it.previous());
+        assertEquals(1, it.previous());
+        assertEquals(0, it.previous());
+        assertFalse(it.hasPrevious());
+        assertEquals(-1, it.previousIndex());
+    }
+
+    @Test
+    default void listIteratorShouldModifyList() {
+        //given
+        var list = get(5);
+        var it = list.listIterator();
+
+        //when
+        while (it.hasNext()) {
+            var e = it.next();
+            if (e == 1) {
+                it.remove();
+            } else if (e == 2) {
+                it.set(20);
+            } else if (e == 4) {
+                it.add(5);
+            }
+        }
+        it.previous();
+        it.add(6);
+
+        //then
+        assertThat(list).containsExactly(0, 20, 3, 4, 6, 5);
+    }
+
+    @Test
+    default void iteratorShouldFailFast() {
+        //given
+        var list = get(3);
+        var it = list.iterator();
+        it.next();
+
+        //when
+        list.add(3);
+
+        //then
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(it::next);
+    }
+
+    @Test
+    default void subListShouldBeLiveView() {
+        //given
+        var list = get(8);
+        var sub = list.subList(2, 6);
+
+        //when
+        sub.set(0, 20);
+        sub.remove(1);
+        sub.add(30);
+
+        //then
+        assertThat(sub).containsExactly(20, 4, 5, 30);
+        assertThat(list).containsExactly(0, 1, 20, 4, 5, 30, 6, 7);
+    }
+
+    @Test
+    default void subListShouldClearRange() {
+        //given
+        var list = get(8);
+
+        //when
+        list.subList(2, 6).clear();
+        list.subList(0, 0).clear();
+
+        //then
+        assertThat(list).containsExactly(0, 1, 6, 7);
+        list.add(8);
+        assertThat(list).containsExactly(0, 1, 6, 7, 8);
+    }
+
+    @Test
+    default void subListShouldSortAndAddAll() {
+        //given
+        var list = get(6);
+        var sub = list.subList(1, 5);
+
+        //when
+        sub.sort(Comparator.reverseOrder());
+        sub.addAll(1, List.of(9, 9));
+        sub.subList(0, 2).clear();
+
+        //then
+        assertThat(sub).containsExactly(9, 3, 2, 1);
+        assertThat(list).containsExactly(0, 9, 3, 2, 1, 5);
+    }
+
+    @Test
+    default void subListShouldFailFast() {
+        //given
+        var list = get(4);
+        var sub = list.subList(1, 3);
+
+        //when
+        list.remove(0);
+
+        //then
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(() -> sub.get(0));
+    }
+
+    @Test
+    default void subListIteratorShouldFailFast() {
+        //given
+        var list = get(6);
+        var it = list.subList(1, 5).iterator();
+        it.next();
+
+        //when
+        list.add(6);
+
+        //then
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(it::next);
+    }
+
+    @Test
+    default void spliteratorShouldSplitIntoSizedParts() {
+        //given
+        var list = get(4096);
+
+        //when
+        var right = list.spliterator();
+        var left = right.trySplit();
+
+        //then
+        assertThat(left).isNotNull();
+        assertThat(left.estimateSize() + right.estimateSize()).isEqualTo(4096);
+
+        var elements = new ArrayList<Integer>();
+        left.forEachRemaining(elements::add);
+        right.forEachRemaining(elements::add);
+        assertThat(elements).isEqualTo(list);
+    }
+
+    @Test
+    default void shouldSupportParallelStream() {
+        //given
+        var list = get(10_000);
+
+        //when
+        var sum = list.parallelStream().mapToLong(Integer::longValue).sum();
+
+        //then
+        assertEquals(10_000L * 9_999 / 2, sum);
+    }
+
     private void assumePermitNull() {
         assumeTrue(permitsNull(), "This list does not support null elements.");
     }
@@ -0,0 +1,43 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LongArrayListTest {
+
+    @Test
+    void shouldAddAndGetInSameOrder() {
+        //given
+        var list = new LongArrayList();
+        var size = 4096;
+
+        //when
+        for (long i = 0; i < size; i++) {
+            list.addLong(i << 32);
+        }
+
+        //then
+        assertEquals(size, list.size());
+        for (int i = 0; i < size; i++) {
+            assertEquals((long) i << 32, list.getLong(i));
+        }
+    }
+
+    @Test
+    void shouldSortAndBinarySearch() {
+        //given
+        var list = new LongArrayList();
+        list.addAll(new long[]{Long.MAX_VALUE, 3, Long.MIN_VALUE, -1});
+
+        //when
+        list.sort();
+
+        //then
+        assertThat(list.toLongArray()).containsExactly(Long.MIN_VALUE, -1, 3, Long.MAX_VALUE);
+        assertEquals(3, list.binarySearch(Long.MAX_VALUE));
+        assertEquals(-3, list.binarySearch(0));
+        assertThat(list.asList()).containsExactly(Long.MIN_VALUE, -1L, 3L, Long.MAX_VALUE);
+    }
+}
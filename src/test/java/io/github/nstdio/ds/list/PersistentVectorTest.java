@@ -0,0 +1,226 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class PersistentVectorTest {
+
+    @Test
+    void shouldAppendWithoutChangingPreviousVersion() {
+        //given
+        PersistentVector<Integer> v = PersistentVector.empty();
+        var versions = new ArrayList<PersistentVector<Integer>>();
+
+        //when
+        for (int i = 0; i < 2_000; i++) {
+            versions.add(v);
+            v = v.append(i);
+        }
+
+        //then
+        assertEquals(2_000, v.size());
+        assertEquals(2, v.depth());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(i, versions.get(i).size());
+        }
+        assertThat(versions.get(1000)).isEqualTo(range(0, 1000));
+    }
+
+    @Test
+    void shouldReplaceSharingStructure() {
+        //given
+        var v = PersistentVector.copyOf(range(0, 100));
+
+        //when
+        var changed = v.with(5, -1).with(99, -2);
+
+        //then
+        assertEquals(5, v.get(5));
+        assertEquals(-1, changed.get(5));
+        assertEquals(-2, changed.get(99));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> v.with(100, 0));
+    }
+
+    @Test
+    void shouldRemoveLastShrinkingTrie() {
+        //given
+        var v = PersistentVector.copyOf(range(0, 1057));
+
+        //when
+        var shrunk = v;
+        while (shrunk.size() > 10) {
+            shrunk = shrunk.removeLast();
+        }
+
+        //then
+        assertThat(shrunk).isEqualTo(range(0, 10));
+        assertEquals(1, shrunk.depth());
+        assertEquals(1057, v.size());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> PersistentVector.empty().removeLast());
+    }
+
+    @Test
+    void shouldConcatAndSlice() {
+        //given
+        var v = PersistentVector.copyOf(range(0, 100));
+
+        //when
+        var concat = v.concat(range(100, 150));
+        var prefix = concat.slice(0, 140);
+        var middle = concat.slice(33, 77);
+
+        //then
+        assertThat(concat).isEqualTo(range(0, 150));
+        assertThat(prefix).isEqualTo(range(0, 140));
+        assertThat(middle).isEqualTo(range(33, 77));
+        assertThat(v).isEqualTo(range(0, 100));
+    }
+
+    @Test
+    void shouldNotBeModifiable() {
+        //given
+        var v = PersistentVector.of(1, 2, 3);
+
+        //when + then
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> v.add(4));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> v.set(0, 4));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> v.remove(0));
+    }
+
+    @Test
+    void builderShouldNotChangeSourceAndBeUnusableAfterBuild() {
+        //given
+        var v = PersistentVector.copyOf(range(0, 64));
+        var builder = v.toBuilder();
+
+        //when
+        builder.set(0, -1).add(64);
+        var built = builder.build();
+
+        //then
+        assertEquals(0, v.get(0));
+        assertEquals(64, v.size());
+        assertEquals(-1, built.get(0));
+        assertEquals(65, built.size());
+        assertThatIllegalStateException().isThrownBy(() -> builder.add(1));
+    }
+
+    @RepeatedTest(8)
+    void shouldBehaveLikeArrayList() {
+        //given
+        PersistentVector<Integer> v = PersistentVector.empty();
+        var expected = new ArrayList<Integer>();
+
+        //when
+        for (int op = 0; op < 3_000; op++) {
+            switch (RandomUtils.nextInt(0, 4)) {
+                case 0:
+                case 1:
+                    v = v.append(op);
+                    expected.add(op);
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        var i = RandomUtils.nextInt(0, expected.size());
+                        v = v.with(i, -op);
+                        expected.set(i, -op);
+                    }
+                    break;
+                default:
+                    if (!expected.isEmpty()) {
+                        v = v.removeLast();
+                        expected.remove(expected.size() - 1);
+                    }
+            }
+        }
+
+        //then
+        assertThat(v).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldConcatLargeVectorsKeepingTrieShallow() {
+        //given
+        PersistentVector<Integer> v = PersistentVector.empty();
+        var expected = new ArrayList<Integer>();
+
+        //when
+        for (int i = 0; i < 2_000; i++) {
+            int n = 33 + i % 40;
+            v = v.concat(PersistentVector.copyOf(range(0, n)));
+            expected.addAll(range(0, n));
+        }
+
+        //then
+        assertThat(v).isEqualTo(expected);
+        assertEquals(3, v.depth());
+    }
+
+    @Test
+    void shouldUseSlicedAndConcatenatedVectorLikeAnyOther() {
+        //given
+        var v = PersistentVector.copyOf(range(0, 5_000));
+        var relaxed = v.slice(7, 3_000).concat(v.slice(1_234, 4_321));
+        var expected = new ArrayList<>(range(7, 3_000));
+        expected.addAll(range(1_234, 4_321));
+
+        //when
+        var changed = relaxed.with(100, -1).append(-2).removeLast().removeLast();
+        var built = relaxed.toBuilder().set(3_000, -3).add(-4).build();
+        var middle = relaxed.slice(2_000, 4_000);
+
+        //then
+        assertThat(relaxed).isEqualTo(expected);
+        expected.set(100, -1);
+        expected.remove(expected.size() - 1);
+        assertThat(changed).isEqualTo(expected);
+        assertEquals(-3, built.get(3_000));
+        assertEquals(-4, built.get(built.size() - 1));
+        assertThat(middle).isEqualTo(relaxed.subList(2_000, 4_000));
+        assertThat(v).isEqualTo(range(0, 5_000));
+    }
+
+    @RepeatedTest(8)
+    void shouldConcatAndSliceLikeArrayList() {
+        //given
+        PersistentVector<Integer> v = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+
+        //when
+        for (int op = 0; op < 300; op++) {
+            if (RandomUtils.nextBoolean() || expected.isEmpty()) {
+                var other = PersistentVector.copyOf(range(op, op + RandomUtils.nextInt(0, 2_000)));
+                v = v.concat(other);
+                expected.addAll(other);
+            } else {
+                int from = RandomUtils.nextInt(0, expected.size());
+                int to = RandomUtils.nextInt(from, expected.size() + 1);
+                v = v.slice(from, to);
+                expected = new ArrayList<>(expected.subList(from, to));
+            }
+        }
+
+        //then
+        assertThat(v).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), v.get(i));
+        }
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
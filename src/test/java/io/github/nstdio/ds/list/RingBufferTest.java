@@ -0,0 +1,119 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+class RingBufferTest {
+
+    @Test
+    void shouldRoundCapacityToPowerOfTwo() {
+        assertEquals(1, new RingBuffer<>(1).capacity());
+        assertEquals(8, new RingBuffer<>(5).capacity());
+        assertEquals(16, new RingBuffer<>(16).capacity());
+    }
+
+    @Test
+    void shouldRejectWhenFull() {
+        //given
+        var buffer = new RingBuffer<Integer>(2);
+        buffer.offer(1);
+        buffer.offerFirst(0);
+
+        //when + then
+        assertFalse(buffer.offer(2));
+        assertFalse(buffer.offerFirst(2));
+        assertThatIllegalStateException().isThrownBy(() -> buffer.addLast(2));
+        assertThat(buffer).containsExactly(0, 1);
+    }
+
+    @Test
+    void shouldOfferBatchAcrossTheEnd() {
+        //given
+        var buffer = new RingBuffer<Integer>(8);
+        buffer.addAll(List.of(0, 1, 2, 3, 4, 5));
+        buffer.drainTo(e -> {}, 4);
+
+        //when
+        var offered = buffer.offerBatch(new Integer[]{6, 7, 8, 9, 10, 11, 12}, 0, 7);
+
+        //then
+        assertEquals(6, offered);
+        assertThat(buffer).containsExactly(4, 5, 6, 7, 8, 9, 10, 11);
+        assertEquals(11, buffer.peekLast());
+    }
+
+    @Test
+    void shouldDrainUpToMax() {
+        //given
+        var buffer = new RingBuffer<Integer>(8);
+        buffer.addAll(List.of(0, 1, 2, 3, 4));
+        var drained = new java.util.ArrayList<Integer>();
+
+        //when
+        var count = buffer.drainTo(drained::add, 3);
+
+        //then
+        assertEquals(3, count);
+        assertThat(drained).containsExactly(0, 1, 2);
+        assertThat(buffer).containsExactly(3, 4);
+        assertEquals(2, buffer.drainTo(drained::add, 10));
+        assertNull(buffer.poll());
+    }
+
+    @RepeatedTest(8)
+    void shouldBehaveLikeArrayDeque() {
+        //given
+        var buffer = new RingBuffer<Integer>(RandomUtils.nextInt(1, 33));
+        var expected = new ArrayDeque<Integer>();
+        var capacity = buffer.capacity();
+
+        //when
+        for (int op = 0; op < 1_000; op++) {
+            var value = RandomUtils.nextInt(0, 32);
+            var hasRoom = expected.size() < capacity;
+            switch (RandomUtils.nextInt(0, 6)) {
+                case 0:
+                    assertEquals(hasRoom, buffer.offerFirst(value));
+                    if (hasRoom) expected.offerFirst(value);
+                    break;
+                case 1:
+                    assertEquals(hasRoom, buffer.offerLast(value));
+                    if (hasRoom) expected.offerLast(value);
+                    break;
+                case 2:
+                    assertEquals(expected.pollFirst(), buffer.pollFirst());
+                    break;
+                case 3:
+                    assertEquals(expected.pollLast(), buffer.pollLast());
+                    break;
+                case 4:
+                    assertEquals(expected.removeFirstOccurrence(value), buffer.removeFirstOccurrence(value));
+                    break;
+                default:
+                    var it = buffer.iterator();
+                    var expectedIt = expected.iterator();
+                    while (expectedIt.hasNext()) {
+                        assertEquals(expectedIt.next(), it.next());
+                        if (value % 3 == 0) {
+                            it.remove();
+                            expectedIt.remove();
+                        }
+                    }
+            }
+        }
+
+        //then
+        assertThat(buffer).containsExactlyElementsOf(expected);
+        assertThat(buffer.descendingIterator()).toIterable().containsExactlyElementsOf(() -> expected.descendingIterator());
+    }
+}
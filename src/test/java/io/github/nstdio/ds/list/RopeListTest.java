@@ -0,0 +1,81 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class RopeListTest implements ListContract {
+
+    @Override
+    public List<?> get() {
+        return new RopeList<>();
+    }
+
+    @Test
+    void shouldSplitOffAndConcat() {
+        //given
+        var list = new RopeList<Integer>();
+        list.addAll(range(0, 100));
+
+        //when
+        var tail = list.splitOff(40);
+
+        //then
+        assertThat(list).isEqualTo(range(0, 40));
+        assertThat(tail).isEqualTo(range(40, 100));
+
+        //when
+        list.add(20, -1);
+        list.concat(tail);
+
+        //then
+        assertEquals(101, list.size());
+        assertEquals(-1, list.get(20));
+        assertEquals(99, list.get(100));
+        assertTrue(tail.isEmpty());
+        assertThatIllegalArgumentException().isThrownBy(() -> list.concat(list));
+    }
+
+    @Test
+    void shouldStayBalancedUnderMiddleInsertions() {
+        //given
+        var list = new RopeList<Integer>();
+        var size = 1 << 16;
+
+        //when
+        for (int i = 0; i < size; i++) {
+            list.add(i / 2, i);
+        }
+
+        //then
+        assertEquals(size, list.size());
+        assertThat(list.height()).isLessThan(4 * 16);
+    }
+
+    @Test
+    void shouldInsertCollectionInTheMiddle() {
+        //given
+        var list = new RopeList<Integer>();
+        list.addAll(range(0, 10));
+
+        //when
+        list.addAll(5, range(100, 1100));
+
+        //then
+        assertEquals(1010, list.size());
+        assertThat(list.subList(0, 5)).isEqualTo(range(0, 5));
+        assertThat(list.subList(5, 1005)).isEqualTo(range(100, 1100));
+        assertThat(list.subList(1005, 1010)).isEqualTo(range(5, 10));
+    }
+
+    private static List<Integer> range(int from, int to) {
+        return IntStream.range(from, to).boxed().collect(Collectors.toList());
+    }
+}
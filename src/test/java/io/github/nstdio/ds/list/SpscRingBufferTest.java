@@ -0,0 +1,132 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class SpscRingBufferTest {
+
+    @Test
+    void shouldOfferAndPollInOrder() {
+        //given
+        var buffer = new SpscRingBuffer<Integer>(4);
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        //then
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+        assertEquals(0, buffer.peek());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, buffer.poll());
+        }
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void shouldOfferBatchUpToCapacity() {
+        //given
+        var buffer = new SpscRingBuffer<Integer>(4);
+        buffer.offer(0);
+        var drained = new java.util.ArrayList<Integer>();
+
+        //when
+        var offered = buffer.offerBatch(new Integer[]{1, 2, 3, 4, 5}, 0, 5);
+        var count = buffer.drainTo(drained::add, 8);
+
+        //then
+        assertEquals(3, offered);
+        assertEquals(4, count);
+        assertThat(drained).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void shouldRejectBatchWithNullBeforeWritingAnything() {
+        //given
+        var buffer = new SpscRingBuffer<Integer>(8);
+        buffer.offer(0);
+
+        //when
+        assertThatNullPointerException().isThrownBy(() -> buffer.offerBatch(new Integer[]{1, 2, null, 4}, 0, 4));
+
+        //then
+        assertThat(buffer).containsExactly(0);
+        assertEquals(4, buffer.offerBatch(new Integer[]{1, 2, 3, 4}, 0, 4));
+        assertThat(buffer).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void shouldIterateFromHeadToTail() {
+        //given
+        var buffer = new SpscRingBuffer<Integer>(4);
+        for (int i = 0; i < 6; i++) {
+            buffer.offer(i);
+            if (i % 2 == 1) {
+                buffer.poll();
+            }
+        }
+
+        //when
+        var it = buffer.iterator();
+        buffer.poll();
+
+        //then
+        assertThat(buffer).containsExactly(4, 5);
+        assertThat(buffer.toString()).isEqualTo("[4, 5]");
+        assertTrue(buffer.contains(5));
+        assertThat(it).toIterable().containsExactly(4, 5);
+    }
+
+    @RepeatedTest(4)
+    void shouldTransferInOrderBetweenTwoThreads() throws Exception {
+        //given
+        var buffer = new SpscRingBuffer<Integer>(64);
+        var total = 200_000;
+        var failure = new AtomicReference<Throwable>();
+        var batch = new Integer[16];
+
+        //when
+        var producer = new Thread(() -> {
+            int i = 0;
+            while (i < total) {
+                int len = Math.min(batch.length, total - i);
+                for (int k = 0; k < len; k++) {
+                    batch[k] = i + k;
+                }
+                var offered = (i & 1) == 0 ? (buffer.offer(i) ? 1 : 0) : buffer.offerBatch(batch, 0, len);
+                if (offered == 0) {
+                    Thread.yield();
+                }
+                i += offered;
+            }
+        });
+        producer.setUncaughtExceptionHandler((t, e) -> failure.set(e));
+        producer.start();
+
+        var next = new int[1];
+        while (next[0] < total) {
+            var count = buffer.drainTo(e -> assertEquals(next[0]++, e), 32);
+            if (count == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join(TimeUnit.SECONDS.toMillis(30));
+
+        //then
+        assertNull(failure.get());
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.nstdio.ds.list;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class UnrolledLinkedListTest implements ListContract {
+
+    @Override
+    public List<?> get() {
+        return new UnrolledLinkedList<>();
+    }
+
+    @Test
+    void shouldSplitFullNodeOnInsert() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(4);
+        list.addAll(List.of(0, 1, 2, 3));
+
+        //when
+        list.add(1, 10);
+
+        //then
+        assertThat(list).containsExactly(0, 10, 1, 2, 3);
+        assertEquals(2, list.nodes());
+    }
+
+    @Test
+    void shouldMergeNodesOnRemove() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(4);
+        Lists.uniformFill(list, 16);
+
+        //when
+        for (int i = 15; i > 0; i -= 2) {
+            list.remove(i);
+        }
+
+        //then
+        assertThat(list).containsExactly(0, 2, 4, 6, 8, 10, 12, 14);
+        assertThat(list.nodes()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void shouldPackNodesOnRemoveIf() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(4);
+        Lists.uniformFill(list, 32);
+
+        //when
+        var removed = list.removeIf(e -> e % 2 == 1);
+
+        //then
+        assertThat(removed).isTrue();
+        assertEquals(16, list.size());
+        assertEquals(4, list.nodes());
+        assertThat(list).containsExactlyElementsOf(List.of(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22, 24, 26, 28, 30));
+    }
+
+    @Test
+    void shouldKeepListIntactWhenRemoveIfPredicateThrows() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(4);
+        Lists.uniformFill(list, 32);
+        var expected = new ArrayList<>(list);
+
+        //when
+        assertThatIllegalStateException().isThrownBy(() -> list.removeIf(e -> {
+            if (e == 20) {
+                throw new IllegalStateException();
+            }
+            return e % 2 == 1;
+        }));
+
+        //then
+        assertThat(list).isEqualTo(expected);
+    }
+
+    @Test
+    void shouldRemoveThroughIterator() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(4);
+        Lists.uniformFill(list, 32);
+
+        //when
+        for (var it = list.iterator(); it.hasNext(); ) {
+            if (it.next() % 3 != 0) {
+                it.remove();
+            }
+        }
+
+        //then
+        assertThat(list).containsExactly(0, 3, 6, 9, 12, 15, 18, 21, 24, 27, 30);
+        assertThat(list.nodes()).isLessThanOrEqualTo(6);
+    }
+
+    @RepeatedTest(16)
+    void shouldBehaveLikeArrayListUnderRandomOperations() {
+        //given
+        var list = new UnrolledLinkedList<Integer>(RandomUtils.nextInt(2, 9));
+        var expected = new ArrayList<Integer>();
+
+        //when
+        for (int op = 0; op < 2_000; op++) {
+            var value = RandomUtils.nextInt(0, 64);
+            switch (RandomUtils.nextInt(0, 5)) {
+                case 0:
+                    list.add(value);
+                    expected.add(value);
+                    break;
+                case 1:
+                    var index = RandomUtils.nextInt(0, expected.size() + 1);
+                    list.add(index, value);
+                    expected.add(index, value);
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        var i = RandomUtils.nextInt(0, expected.size());
+                        assertEquals(expected.remove(i), list.remove(i));
+                    }
+                    break;
+                case 3:
+                    if (!expected.isEmpty()) {
+                        var i = RandomUtils.nextInt(0, expected.size());
+                        assertEquals(expected.set(i, value), list.set(i, value));
+                    }
+                    break;
+                default:
+                    if (op % 50 == 0) {
+                        list.removeIf(e -> e % 7 == value % 7);
+                        expected.removeIf(e -> e % 7 == value % 7);
+                    }
+            }
+        }
+
+        //then
+        assertThat(list).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+}
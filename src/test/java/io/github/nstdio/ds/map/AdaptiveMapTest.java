@@ -0,0 +1,109 @@
+package io.github.nstdio.ds.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class AdaptiveMapTest implements MapContract {
+
+    @Override
+    public <K, V> Map<K, V> get() {
+        return new AdaptiveMap<>();
+    }
+
+    @Test
+    void shouldPromoteWhenThresholdExceeded() {
+        //given
+        var map = new AdaptiveMap<Integer, Integer>(4, AdaptiveMap.NO_DEMOTION);
+        for (int i = 0; i < 4; i++) {
+            map.put(i, i);
+        }
+        assertThat(map.isHashed()).isFalse();
+
+        //when
+        map.put(4, 4);
+
+        //then
+        assertThat(map.isHashed()).isTrue();
+        assertThat(map).hasSize(5).containsEntry(0, 0).containsEntry(4, 4);
+    }
+
+    @Test
+    void shouldDemoteWhenShrinks() {
+        //given
+        var map = new AdaptiveMap<Integer, Integer>(4, 2);
+        for (int i = 0; i < 5; i++) {
+            map.put(i, i);
+        }
+
+        //when
+        map.remove(0);
+        map.remove(1);
+        assertThat(map.isHashed()).isTrue();
+        map.remove(2);
+
+        //then
+        assertThat(map.isHashed()).isFalse();
+        assertThat(map).containsOnly(Map.entry(3, 3), Map.entry(4, 4));
+    }
+
+    @Test
+    void shouldNotDemoteByDefault() {
+        //given
+        var map = new AdaptiveMap<Integer, Integer>();
+        for (int i = 0; i < 16; i++) {
+            map.put(i, i);
+        }
+
+        //when
+        for (int i = 0; i < 16; i++) {
+            map.remove(i);
+        }
+
+        //then
+        assertThat(map).isEmpty();
+        assertThat(map.isHashed()).isTrue();
+    }
+
+    @Test
+    void shouldRemoveThroughViewsAfterPromotion() {
+        //given
+        var map = new AdaptiveMap<Integer, Integer>(4, 2);
+        for (int i = 0; i < 8; i++) {
+            map.put(i, i);
+        }
+        assertThat(map.isHashed()).isTrue();
+
+        //when
+        map.keySet().remove(0);
+        map.values().removeIf(v -> v % 2 == 1);
+        map.entrySet().removeIf(e -> e.getKey() > 4);
+
+        //then
+        assertThat(map).containsOnly(Map.entry(2, 2), Map.entry(4, 4));
+        assertThat(map.isHashed()).isFalse();
+    }
+
+    @Test
+    void shouldHandleNegativeHashCodes() {
+        //given
+        var map = new AdaptiveMap<String, Integer>(1, AdaptiveMap.NO_DEMOTION);
+
+        //when
+        map.put("polygenelubricants", 1);
+        map.put("GydZG_", 2);
+
+        //then
+        assertThat(map.get("polygenelubricants")).isEqualTo(1);
+        assertThat(map.get("GydZG_")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowOnInvalidThresholds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveMap<>(0, AdaptiveMap.NO_DEMOTION));
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveMap<>(4, 4));
+    }
+}
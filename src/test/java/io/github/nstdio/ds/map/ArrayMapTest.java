@@ -1,5 +1,9 @@
 package io.github.nstdio.ds.map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
 import java.util.Map;
 
 class ArrayMapTest implements MapContract {
@@ -8,4 +12,53 @@ class ArrayMapTest implements MapContract {
     public <K, V> Map<K, V> get() {
         return new ArrayMap<>();
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRemoveFromMiddle() {
+        //given
+        var map = new ArrayMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        //when
+        var old = map.remove("b");
+
+        //then
+        assertThat(old).isEqualTo(2);
+        assertThat(map).containsOnly(Map.entry("a", 1), Map.entry("c", 3));
+    }
+
+    @Test
+    void shouldDistinguishKeysWithSameHash() {
+        //given
+        var map = new ArrayMap<String, Integer>();
+
+        //when
+        map.put("Aa", 1);
+        map.put("BB", 2);
+        map.put(null, 3);
+
+        //then
+        assertThat(map.get("Aa")).isEqualTo(1);
+        assertThat(map.get("BB")).isEqualTo(2);
+        assertThat(map.get(null)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldWriteThroughEntrySet() {
+        //given
+        var map = new ArrayMap<String, Integer>();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        //when
+        for (var e : map.entrySet()) {
+            e.setValue(e.getValue() * 10);
+        }
+        map.entrySet().removeIf(e -> e.getKey().equals("a"));
+
+        //then
+        assertThat(map).containsOnly(Map.entry("b", 20));
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.nstdio.ds.map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+class FrozenSortedArrayMapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void shouldFindAllKeys(int power) {
+        //given
+        var expected = new java.util.HashMap<Long, Integer>();
+        for (int i = 0; i < 8192; i++) {
+            expected.put((long) Math.pow(RandomUtils.nextInt(0, 65536), power), i);
+        }
+
+        //when
+        var map = FrozenSortedArrayMap.copyOf(expected, 8);
+
+        //then
+        assertThat(map).containsExactlyEntriesOf(new TreeMap<>(expected));
+        for (long i = 0; i < 65536; i++) {
+            assertThat(map.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    void shouldUseSingleSegmentForSequentialKeys() {
+        //given
+        var sorted = new SortedArrayMap<Integer, Integer>();
+        for (int i = 0; i < 4096; i++) {
+            sorted.put(i * 2, i);
+        }
+
+        //when
+        var map = FrozenSortedArrayMap.copyOf(sorted);
+
+        //then
+        assertThat(map.segments()).isOne();
+        assertThat(map.get(4094)).isEqualTo(2047);
+        assertThat(map.get(4095)).isNull();
+        assertThat(map.get(-1)).isNull();
+        assertThat(map.get(8192)).isNull();
+    }
+
+    @Test
+    void shouldBeEmpty() {
+        //when
+        var map = FrozenSortedArrayMap.copyOf(Map.<Long, Long>of());
+
+        //then
+        assertThat(map).isEmpty();
+        assertThat(map.get(1L)).isNull();
+        assertThat(map.containsKey(1L)).isFalse();
+    }
+
+    @Test
+    void shouldKeepKeysSorted() {
+        //when
+        var map = FrozenSortedArrayMap.copyOf(Map.of(3, "c", 1, "a", 2, "b"));
+
+        //then
+        assertThat(List.copyOf(map.keySet())).containsExactly(1, 2, 3);
+        assertThat(map.values()).containsExactly("a", "b", "c");
+        assertThat(map.containsValue("b")).isTrue();
+    }
+
+    @Test
+    void shouldNotBeModifiable() {
+        //given
+        var map = FrozenSortedArrayMap.copyOf(Map.of(1, 1));
+
+        //when + then
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> map.put(2, 2));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> map.remove(1));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(map::clear);
+    }
+
+    @Test
+    void shouldFindKeysWithLargeEpsilon() {
+        //given
+        var expected = new java.util.HashMap<Integer, Integer>();
+        for (int i = 0; i < 1024; i++) {
+            expected.put(i * i, i);
+        }
+
+        //when
+        var map = FrozenSortedArrayMap.copyOf(expected, Integer.MAX_VALUE);
+
+        //then
+        assertThat(map).containsExactlyEntriesOf(new TreeMap<>(expected));
+        for (int i = 0; i < 1024; i++) {
+            assertThat(map.get(i * i)).isEqualTo(i);
+        }
+        assertThat(map.get(2)).isNull();
+    }
+
+    @Test
+    void shouldThrowWhenEpsilonIsNotPositive() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> FrozenSortedArrayMap.copyOf(Map.of(1, 1), 0));
+    }
+}
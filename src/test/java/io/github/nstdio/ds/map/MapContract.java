@@ -1,6 +1,7 @@
 package io.github.nstdio.ds.map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
+import java.util.Spliterator;
 
 public interface MapContract {
 
@@ -167,4 +169,59 @@ public interface MapContract {
         //noinspection ConstantConditions
         assertTrue(map.isEmpty());
     }
+
+    @Test
+    default void shouldRemoveThroughViews() {
+        //given
+        Map<Integer, Integer> map = get();
+        for (int i = 0; i < 16; i++) {
+            map.put(i, i);
+        }
+
+        //when
+        map.keySet().remove(0);
+        map.values().removeIf(v -> v % 2 == 1);
+        map.entrySet().removeIf(e -> e.getKey() > 8);
+
+        //then
+        assertThat(map).containsOnly(entry(2, 2), entry(4, 4), entry(6, 6), entry(8, 8));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    default void viewsShouldReflectChanges() {
+        //given
+        Map<Integer, Integer> map = get();
+        map.put(1, 1);
+        map.put(2, 2);
+        var entries = map.entrySet();
+        var keys = map.keySet();
+
+        //when
+        map.put(3, 3);
+        map.remove(1);
+
+        //then
+        assertThat(entries).hasSize(2).containsExactlyInAnyOrder(entry(2, 2), entry(3, 3));
+        assertThat(keys).hasSize(2).containsExactlyInAnyOrder(2, 3);
+    }
+
+    @Test
+    default void entrySetShouldSupportParallelStream() {
+        //given
+        Map<Integer, Integer> map = get();
+        var n = 8192;
+        for (int i = 0; i < n; i++) {
+            map.put(i, i);
+        }
+
+        //when
+        var spliterator = map.entrySet().spliterator();
+        var sum = map.entrySet().parallelStream().mapToLong(Map.Entry::getValue).sum();
+
+        //then
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(n, spliterator.estimateSize());
+        assertEquals((long) n * (n - 1) / 2, sum);
+    }
 }
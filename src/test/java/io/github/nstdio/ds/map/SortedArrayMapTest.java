@@ -4,9 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 class SortedArrayMapTest implements MapContract {
 
@@ -32,4 +35,64 @@ class SortedArrayMapTest implements MapContract {
         //then
         assertThat(keys).isSorted();
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4})
+    void shouldFindNumericKeys(int power) {
+        //given
+        SortedArrayMap<Long, Integer> map = SortedArrayMap.forNumericKeys();
+        var expected = new TreeMap<Long, Integer>();
+        int n = 4096;
+
+        //when
+        for (int i = 0; i < n; i++) {
+            var key = (long) Math.pow(RandomUtils.nextInt(0, 8192), power);
+
+            map.put(key, i);
+            expected.put(key, i);
+        }
+
+        //then
+        assertThat(map).containsExactlyEntriesOf(expected);
+        for (long i = 0; i < n; i++) {
+            assertThat(map.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    @Test
+    void shouldFindNumericKeysBetweenAndOutsideBounds() {
+        //given
+        SortedArrayMap<Double, Integer> map = SortedArrayMap.forNumericKeys();
+
+        //when
+        map.put(1.0, 1);
+        map.put(1.5, 2);
+        map.put(3.0, 3);
+
+        //then
+        assertThat(map.get(1.0)).isEqualTo(1);
+        assertThat(map.get(1.5)).isEqualTo(2);
+        assertThat(map.get(3.0)).isEqualTo(3);
+        assertThat(map.get(2.0)).isNull();
+        assertThat(map.get(-1.0)).isNull();
+        assertThat(map.get(4.0)).isNull();
+    }
+
+    @Test
+    void shouldFindNumericKeysWithDuplicateBounds() {
+        //given
+        SortedArrayMap<Long, Integer> map = SortedArrayMap.forNumericKeys();
+        long base = 1L << 53;
+
+        //when
+        // base and base + 1 have the same double value, so the interpolation range has a[lo] == a[hi]
+        map.put(base, 1);
+        map.put(base + 1, 2);
+
+        //then
+        assertThat(map.get(base)).isEqualTo(1);
+        assertThat(map.get(base + 1)).isEqualTo(2);
+        assertThat(map.get(base - 1)).isNull();
+        assertThat(map.get(base + 2)).isNull();
+    }
+}